@@ -354,6 +354,27 @@ public class Elements<ParentPanel> {
         return parent;
     }
 
+    private static final String READ_LIST_SCRIPT =
+            "var name = arguments[1];\n" +
+            "var displayed = function(el) {\n" +
+            "  if (/^(option|optgroup)$/i.test(el.tagName) && el.closest) el = el.closest('select') || el;\n" +
+            "  if (!(el.offsetWidth || el.offsetHeight || el.getClientRects().length)) return false;\n" +
+            "  var style = window.getComputedStyle(el);\n" +
+            "  return style.visibility !== 'hidden' && style.visibility !== 'collapse';\n" +
+            "};\n" +
+            "return arguments[0].map(function(el) {\n" +
+            "  if (name === null) {\n" +
+            "    if (!displayed(el)) return '';\n" +
+            "    return (el.innerText || el.textContent || '').replace(/\\u00a0/g, ' ').split('\\n')\n" +
+            "      .map(function(line) { return line.replace(/\\s+/g, ' ').trim(); }).join('\\n').trim();\n" +
+            "  }\n" +
+            "  var value = el[name];\n" +
+            "  if (value === undefined || value === null || typeof value === 'object' || typeof value === 'function')\n" +
+            "    value = el.getAttribute(name);\n" +
+            "  if (typeof value === 'boolean') return value ? 'true' : null;\n" +
+            "  return value === undefined || value === null ? null : String(value);\n" +
+            "});";
+
     private JavascriptExecutor jsExecutor() {
         return (JavascriptExecutor) getDriver();
     }
@@ -540,7 +561,11 @@ public class Elements<ParentPanel> {
      * @return ArrayList
      */
     public ArrayList<String> getTextList() {
-        return (ArrayList<String>) select(getWebElements(), WebElement::getText);
+        List<WebElement> elements = getWebElements();
+        List<String> texts = readByScript(elements, null);
+        return texts != null
+                ? new ArrayList<>(texts)
+                : (ArrayList<String>) select(elements, WebElement::getText);
     }
 
     /**
@@ -550,8 +575,30 @@ public class Elements<ParentPanel> {
      * @return List of WebElement attributes
      */
     public ArrayList<String> getAttributeList(String attributeName) {
-        return (ArrayList<String>) select(getWebElements(),
-                el -> el.getAttribute(attributeName));
+        List<WebElement> elements = getWebElements();
+        List<String> attributes = readByScript(elements, attributeName);
+        return attributes != null
+                ? new ArrayList<>(attributes)
+                : (ArrayList<String>) select(elements, el -> el.getAttribute(attributeName));
+    }
+
+    /**
+     * Read text (attributeName is null) or attribute of all elements by one script
+     *
+     * @param elements      - WebElements to read
+     * @param attributeName - name of attribute or null for text
+     * @return List of values or null if script can't be executed
+     */
+    private List<String> readByScript(List<WebElement> elements, String attributeName) {
+        if (elements.isEmpty() || !(getDriver() instanceof JavascriptExecutor))
+            return null;
+        try {
+            List<String> result = (List<String>) jsExecutor().executeScript(READ_LIST_SCRIPT, elements, attributeName);
+            return result != null && result.size() == elements.size() ? result : null;
+        } catch (WebDriverException ex) {
+            logTechnical(format("Can't read elements by script: %s", ex.getMessage()));
+            return null;
+        }
     }
 
     /**
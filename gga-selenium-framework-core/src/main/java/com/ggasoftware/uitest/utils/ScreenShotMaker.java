@@ -15,16 +15,18 @@
  */
 package com.ggasoftware.uitest.utils;
 
-import org.apache.commons.codec.binary.Base64;
+import com.google.common.io.ByteSource;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriverException;
 import ru.yandex.qatools.allure.annotations.Attachment;
 
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Utility for take Screenshot.
@@ -37,6 +39,19 @@ public final class ScreenShotMaker {
     private static String path = "\\";
     private static String dir = "\\";
     private static boolean hasTake = true;
+    private static final AtomicInteger screenNum = new AtomicInteger();
+    private static final ThreadPoolExecutor writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(16),
+            runnable -> {
+                Thread thread = new Thread(runnable, "Screenshots writer");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ScreenShotMaker::flush));
+    }
 
     private ScreenShotMaker() {
     }
@@ -74,34 +89,44 @@ public final class ScreenShotMaker {
     }
 
     /**
-     * create screenshot on remote machine
+     * Wait until all taken screenshots are written to disk
+     */
+    public static void flush() {
+        try {
+            writer.submit(() -> { }).get(60, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            ReporterNGExt.log4jError(String.format("%s when writing screenshots", e.toString()));
+        }
+    }
+
+    /**
+     * create screenshot on remote machine.
+     * Screenshot is only taken in current thread, file is written in background
      *
      * @param id - name output png file
      * @return full path
      */
     public static String takeScreenshotRemote(String id) {
         String sId = id;
-        String base64Screenshot;
         if (hasTake) {
             if (isDirectoryCorrect()) {
-                String name = String.format("%s.png", DateUtil.now(new SimpleDateFormat("HH_mm_ss-sss").toPattern()));
+                String name = String.format("%s-%s.png",
+                        DateUtil.now(new SimpleDateFormat("HH_mm_ss-sss").toPattern()), screenNum.incrementAndGet());
                 try {
                     TakesScreenshot tsDriver;
                     tsDriver = (TakesScreenshot) WebDriverWrapper.getDriver();
-                    base64Screenshot = tsDriver.getScreenshotAs(OutputType.BASE64);
-
-                    byte[] decodedScreenshot = Base64.decodeBase64(base64Screenshot.getBytes());
-                    File file = new File(ScreenShotMaker.path + name);
-                    try (FileOutputStream fos = new FileOutputStream(file)) {
-                        fos.write(decodedScreenshot);
-                    }
+                    byte[] screenshot = tsDriver.getScreenshotAs(OutputType.BYTES);
+                    String file = ScreenShotMaker.path + name;
+                    writer.execute(() -> write(screenshot, file));
                     if (TestBaseWebDriver.allure) {
-                        saveScreenshot(decodedScreenshot);
+                        saveScreenshot(screenshot);
                     }
                     if (TestBaseWebDriver.reportportal) {
-                        ReporterNGExt.log4j(new ReportPortalMessage(file, id));
+                        ReporterNGExt.log4j(new ReportPortalMessage(ByteSource.wrap(screenshot), id));
                     }
-                } catch (WebDriverException | IOException e) {
+                } catch (WebDriverException e) {
                     sId += String.format("  [%s when making screenshot(webdriver: %s)]", e.toString(), WebDriverWrapper.getDriver());
                     ReporterNGExt.log4jError(String.format("%s when making screenshot(webdriver: %s; file: %s%s) ", e.toString(), WebDriverWrapper.getDriver(), ScreenShotMaker.path, name));
                 }
@@ -114,6 +139,14 @@ public final class ScreenShotMaker {
         }
     }
 
+    private static void write(byte[] screenshot, String file) {
+        try {
+            Files.write(Paths.get(file), screenshot);
+        } catch (IOException e) {
+            ReporterNGExt.log4jError(String.format("%s when writing screenshot(file: %s) ", e.toString(), file));
+        }
+    }
+
     @Attachment(value = "Page screenshot", type = "image/png")
     public static byte[] saveScreenshot(byte[] screenShot) {
         return screenShot;
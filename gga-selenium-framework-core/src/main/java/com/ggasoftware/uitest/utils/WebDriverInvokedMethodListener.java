@@ -16,16 +16,28 @@
 package com.ggasoftware.uitest.utils;
 
 import org.testng.IInvokedMethod;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
 import org.testng.ITestResult;
 
 import static com.ggasoftware.uitest.utils.ReporterNGExt.logBusinessScreenshot;
 
 /**
  * InvokedMethodListener with Screenshots.
+ * Waits for screenshots to be written when suite finished.
  *
  * @author Zhukov Anatoliy
  */
-public class WebDriverInvokedMethodListener extends InvokedMethodListener {
+public class WebDriverInvokedMethodListener extends InvokedMethodListener implements ISuiteListener {
+    @Override
+    public void onStart(ISuite suite) {
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        ScreenShotMaker.flush();
+    }
+
     @Override
     public void afterInvocation(IInvokedMethod method, ITestResult result) {
         Throwable throwable = result.getThrowable();
@@ -26,8 +26,11 @@ import java.util.*;
  * @author Daniel Dyer
  */
 public class ReportNGUtils {
-    private static final NumberFormat DURATION_FORMAT = new DecimalFormat("#0.000");
-    private static final NumberFormat PERCENTAGE_FORMAT = new DecimalFormat("#0.00%");
+    // DecimalFormat is not thread-safe and report pages are rendered in parallel
+    private static final ThreadLocal<NumberFormat> DURATION_FORMAT =
+            ThreadLocal.withInitial(() -> new DecimalFormat("#0.000"));
+    private static final ThreadLocal<NumberFormat> PERCENTAGE_FORMAT =
+            ThreadLocal.withInitial(() -> new DecimalFormat("#0.00%"));
 
     /**
      * Returns the aggregate of the elapsed times for each test result.
@@ -70,7 +73,7 @@ public class ReportNGUtils {
 
     public String formatDuration(long elapsed) {
         double seconds = (double) elapsed / 1000;
-        return DURATION_FORMAT.format(seconds);
+        return DURATION_FORMAT.get().format(seconds);
     }
 
 
@@ -386,6 +389,6 @@ public class ReportNGUtils {
 
 
     public String formatPercentage(int numerator, int denominator) {
-        return PERCENTAGE_FORMAT.format(numerator / (double) denominator);
+        return PERCENTAGE_FORMAT.get().format(numerator / (double) denominator);
     }
 }
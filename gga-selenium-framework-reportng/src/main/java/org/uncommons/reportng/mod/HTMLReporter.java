@@ -16,14 +16,20 @@
 package org.uncommons.reportng.mod;
 
 import org.apache.velocity.VelocityContext;
+import org.testng.*;
 import org.testng.xml.XmlSuite;
 import org.uncommons.reportng.ReportNGException;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.*;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
 /**
  * Enhanced HTML reporter for TestNG that uses Velocity templates to generate its
@@ -37,11 +43,14 @@ import java.util.*;
  *         - add test results html file with status, dependency and duration.
  *         - add chronology html file
  *         - add new resources to copy.
+ *         - render passed and skipped test result pages as tests finish (when registered as listener).
+ *         - merge templates on worker pool.
  */
-public class HTMLReporter extends AbstractReporter {
+public class HTMLReporter extends AbstractReporter implements ITestListener {
     public static final String APPLICATION_VERSION = "applicationVersion";
     private static final String FRAMES_PROPERTY = "org.uncommons.reportng.mod.frames";
     private static final String ONLY_FAILURES_PROPERTY = "org.uncommons.reportng.mod.failures-only";
+    private static final String THREADS_PROPERTY = "org.uncommons.reportng.mod.threads";
     private static final String TEMPLATES_PATH = "org/uncommons/reportng/mod/templates/html/";
     private static final String INDEX_FILE = "index.html";
     private static final String SUITES_FILE = "suites.html";
@@ -73,6 +82,15 @@ public class HTMLReporter extends AbstractReporter {
     private static final Comparator<ITestNGMethod> METHOD_COMPARATOR = new TestMethodComparator();
     private static final Comparator<ITestResult> RESULT_COMPARATOR = new TestResultComparator();
     private static final Comparator<IClass> CLASS_COMPARATOR = new TestClassComparator();
+    private static final int PASSED_STATUS = 4;
+    private static final int SKIPPED_STATUS = 3;
+    private static final int FAILED_STATUS = 2;
+    private static final int FAILED_CONFIG_STATUS = 1;
+
+    private final Map<ITestResult, Integer> renderedResults = new ConcurrentHashMap<>();
+    private final Queue<Future<?>> pages = new ConcurrentLinkedQueue<>();
+    private ExecutorService renderer;
+    private volatile File incrementalDirectory;
 
 
     public HTMLReporter() {
@@ -80,6 +98,59 @@ public class HTMLReporter extends AbstractReporter {
     }
 
 
+    @Override
+    public void onStart(ITestContext context) {
+        File suiteDirectory = new File(context.getSuite().getOutputDirectory());
+        if (suiteDirectory.getParentFile() != null) {
+            File outputDirectory = new File(suiteDirectory.getParentFile(), REPORT_DIRECTORY);
+            outputDirectory.mkdirs();
+            incrementalDirectory = outputDirectory;
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        renderIncremental(result, passedStatus(result), true);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        renderIncremental(result, SKIPPED_STATUS, false);
+    }
+
+    /**
+     * Failed test pages are rendered in the end because they link to failed configurations.
+     */
+    @Override
+    public void onTestFailure(ITestResult result) {
+    }
+
+    @Override
+    public void onTestStart(ITestResult result) {
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+    }
+
+    @Override
+    public void onFinish(ITestContext context) {
+    }
+
+    private void renderIncremental(ITestResult result, int status, boolean withDuration) {
+        File outputDirectory = incrementalDirectory;
+        if (outputDirectory == null) {
+            return;
+        }
+        VelocityContext context = testResultContext(result, status, null, withDuration);
+        pages.add(renderer().submit(() -> {
+            mergeTemplate(new File(outputDirectory, testResultFileName(result)), RESULTEST_FILE + TEMPLATE_EXTENSION, context);
+            renderedResults.put(result, status);
+            return null;
+        }));
+    }
+
+
     /**
      * Generates a set of HTML files that contain data about the outcome of
      * the specified test suites.
@@ -99,18 +170,84 @@ public class HTMLReporter extends AbstractReporter {
         outputDirectory.mkdirs();
 
         try {
+            waitForPages();
+            if (!outputDirectory.equals(incrementalDirectory)) {
+                renderedResults.clear();
+            }
             if (useFrames) {
                 createFrameset(outputDirectory);
             }
             createOverview(suites, outputDirectory, !useFrames, onlyFailures);
             createSuiteList(suites, outputDirectory, onlyFailures);
             createGroups(suites, outputDirectory);
+            // results pages add failed and skipped tests to passed ones, so index pages are rendered before
+            waitForPages();
             createResults(suites, outputDirectory, onlyFailures);
             createTestResults(suites, outputDirectory);
             createLog(outputDirectory, onlyFailures);
             copyResources(outputDirectory);
+            waitForPages();
         } catch (Exception | AssertionError ex) {
             throw new ReportNGException("Failed generating HTML report.", ex);
+        } finally {
+            shutdownRenderer();
+            renderedResults.clear();
+        }
+    }
+
+
+    /**
+     * Merges template on worker pool. Page is written to temporary file first
+     * so pages with the same name never mix.
+     */
+    @Override
+    protected void generateFile(File file,
+                                String templateName,
+                                VelocityContext context) throws IOException {
+        pages.add(renderer().submit(() -> {
+            mergeTemplate(file, templateName, context);
+            return null;
+        }));
+    }
+
+    private void mergeTemplate(File file, String templateName, VelocityContext context) throws IOException {
+        File tempFile = File.createTempFile(file.getName(), ".tmp", file.getParentFile());
+        try {
+            super.generateFile(tempFile, templateName, context);
+            Files.move(tempFile.toPath(), file.toPath(), REPLACE_EXISTING, ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile.toPath());
+        }
+    }
+
+    private synchronized ExecutorService renderer() {
+        if (renderer == null) {
+            int threads = Integer.parseInt(System.getProperty(THREADS_PROPERTY,
+                    Integer.toString(Runtime.getRuntime().availableProcessors())));
+            renderer = Executors.newFixedThreadPool(Math.max(threads, 1), runnable -> {
+                Thread thread = new Thread(runnable, "ReportNG renderer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return renderer;
+    }
+
+    private synchronized void shutdownRenderer() {
+        if (renderer != null) {
+            renderer.shutdown();
+            renderer = null;
+        }
+    }
+
+    private void waitForPages() throws IOException, InterruptedException {
+        Future<?> page;
+        while ((page = pages.poll()) != null) {
+            try {
+                page.get();
+            } catch (ExecutionException ex) {
+                throw new IOException("Failed to render report page.", ex.getCause());
+            }
         }
     }
 
@@ -241,97 +378,76 @@ public class HTMLReporter extends AbstractReporter {
     }
 
     public void createTestResults(List<ISuite> suites, File outputDirectory) throws IOException {
+        Map<String, VelocityContext> testPages = new LinkedHashMap<>();
         for (ISuite suite : suites) {
             for (ISuiteResult result : suite.getResults().values()) {
                 HashMap<String, String> testsResult = new HashMap<>();
                 IResultMap results = result.getTestContext().getFailedConfigurations();
                 for (ITestResult testResult : results.getAllResults()) {
-                    VelocityContext context = createContext();
-                    long duration = testResult.getEndMillis() - testResult.getStartMillis();
-                    Date date = new Date(testResult.getStartMillis());
-                    context.put(RESULT_KEY, testResult);
-                    context.put(STATUS_KEY, 1);
-                    context.put(DURATION_KEY, duration);
-                    context.put(START_KEY, SDF.format(date));
-                    String name = (String) testResult.getAttribute("name");
-                    String fileName;
-                    if (name != null) {
-                        fileName = String.format("test_%s_%s.html", testResult.getName(), name);
-                    } else {
-                        fileName = String.format("test_%s.html", testResult.getName());
-                    }
+                    String fileName = testResultFileName(testResult);
                     testsResult.put(testResult.getName(), fileName);
-                    generateFile(new File(outputDirectory, fileName),
-                            RESULTEST_FILE + TEMPLATE_EXTENSION,
-                            context);
+                    testPages.put(fileName, testResultContext(testResult, FAILED_CONFIG_STATUS, null, true));
                 }
 
                 results = result.getTestContext().getFailedTests();
                 for (ITestResult testResult : results.getAllResults()) {
-                    VelocityContext context = createContext();
                     String dependencyFile = testsResult.get(testResult.getName());
-                    Date date = new Date(testResult.getStartMillis());
-                    context.put(RESULT_KEY, testResult);
-                    context.put(DEPEND_KEY, dependencyFile);
-                    context.put(STATUS_KEY, 2);
-                    context.put(START_KEY, SDF.format(date));
-                    String name = (String) testResult.getAttribute("name");
-                    String fileName;
-                    if (name != null) {
-                        fileName = String.format("test_%s_%s.html", testResult.getName(), name);
-                    } else {
-                        fileName = String.format("test_%s.html", testResult.getName());
-                    }
-                    generateFile(new File(outputDirectory, fileName),
-                            RESULTEST_FILE + TEMPLATE_EXTENSION,
-                            context);
-
+                    testPages.put(testResultFileName(testResult), testResultContext(testResult, FAILED_STATUS, dependencyFile, false));
                 }
                 results = result.getTestContext().getSkippedTests();
                 for (ITestResult testResult : results.getAllResults()) {
-                    VelocityContext context = createContext();
-                    Date date = new Date(testResult.getStartMillis());
-                    context.put(RESULT_KEY, testResult);
-                    context.put(STATUS_KEY, 3);
-                    context.put(START_KEY, SDF.format(date));
-                    String name = (String) testResult.getAttribute("name");
-                    String fileName;
-                    if (name != null) {
-                        fileName = String.format("test_%s_%s.html", testResult.getName(), name);
-                    } else {
-                        fileName = String.format("test_%s.html", testResult.getName());
-                    }
-                    generateFile(new File(outputDirectory, fileName),
-                            RESULTEST_FILE + TEMPLATE_EXTENSION,
-                            context);
+                    putTestPage(testPages, testResult, SKIPPED_STATUS, false);
                 }
                 results = result.getTestContext().getPassedTests();
                 for (ITestResult testResult : results.getAllResults()) {
-                    VelocityContext context = createContext();
-                    long duration = testResult.getEndMillis() - testResult.getStartMillis();
-                    Date date = new Date(testResult.getStartMillis());
-                    context.put(RESULT_KEY, testResult);
-                    int status = 4;
-                    if (testResult.getStatus() == 2) {
-                        status = 2;
-                    }
-                    context.put(STATUS_KEY, status);
-                    context.put(DURATION_KEY, duration);
-                    context.put(START_KEY, SDF.format(date));
-                    String name = (String) testResult.getAttribute("name");
-                    String fileName;
-                    if (name != null) {
-                        fileName = String.format("test_%s_%s.html", testResult.getName(), name);
-                    } else {
-                        fileName = String.format("test_%s.html", testResult.getName());
-                    }
-
-                    generateFile(new File(outputDirectory, fileName),
-                            RESULTEST_FILE + TEMPLATE_EXTENSION,
-                            context);
+                    putTestPage(testPages, testResult, passedStatus(testResult), true);
                 }
             }
         }
+        for (Map.Entry<String, VelocityContext> page : testPages.entrySet()) {
+            generateFile(new File(outputDirectory, page.getKey()),
+                    RESULTEST_FILE + TEMPLATE_EXTENSION,
+                    page.getValue());
+        }
+    }
+
+    /**
+     * Page rendered when test finished is kept if test status has not changed since then.
+     */
+    private void putTestPage(Map<String, VelocityContext> testPages, ITestResult testResult, int status, boolean withDuration) {
+        String fileName = testResultFileName(testResult);
+        if (Integer.valueOf(status).equals(renderedResults.get(testResult))) {
+            testPages.remove(fileName);
+        } else {
+            testPages.put(fileName, testResultContext(testResult, status, null, withDuration));
+        }
+    }
+
+    private int passedStatus(ITestResult testResult) {
+        return testResult.getStatus() == 2 ? FAILED_STATUS : PASSED_STATUS;
+    }
+
+    private String testResultFileName(ITestResult testResult) {
+        String name = (String) testResult.getAttribute("name");
+        return name != null
+                ? String.format("test_%s_%s.html", testResult.getName(), name)
+                : String.format("test_%s.html", testResult.getName());
+    }
+
+    private VelocityContext testResultContext(ITestResult testResult, int status, String dependencyFile, boolean withDuration) {
+        VelocityContext context = createContext();
+        context.put(RESULT_KEY, testResult);
+        context.put(STATUS_KEY, status);
+        if (dependencyFile != null) {
+            context.put(DEPEND_KEY, dependencyFile);
+        }
+        if (withDuration) {
+            context.put(DURATION_KEY, testResult.getEndMillis() - testResult.getStartMillis());
+        }
+        synchronized (SDF) {
+            context.put(START_KEY, SDF.format(new Date(testResult.getStartMillis())));
+        }
+        return context;
     }
 
     public void createChronology(List<ISuite> suites, File outputDirectory) throws IOException {
@@ -44,8 +44,11 @@ public final class ReportMetadata {
     static final String LOCALE_KEY = PROPERTY_KEY_PREFIX + "locale";
     static final String VELOCITY_LOG_KEY = PROPERTY_KEY_PREFIX + "velocity-log";
 
-    private static final DateFormat DATE_FORMAT = new SimpleDateFormat("EEEE dd MMMM yyyy");
-    private static final DateFormat TIME_FORMAT = new SimpleDateFormat("HH:mm z");
+    // SimpleDateFormat is not thread-safe and report pages are rendered in parallel
+    private static final ThreadLocal<DateFormat> DATE_FORMAT =
+            ThreadLocal.withInitial(() -> new SimpleDateFormat("EEEE dd MMMM yyyy"));
+    private static final ThreadLocal<DateFormat> TIME_FORMAT =
+            ThreadLocal.withInitial(() -> new SimpleDateFormat("HH:mm z"));
 
 
     /**
@@ -59,7 +62,7 @@ public final class ReportMetadata {
      * @see #getReportTime()
      */
     public String getReportDate() {
-        return DATE_FORMAT.format(reportTime);
+        return DATE_FORMAT.get().format(reportTime);
     }
 
 
@@ -68,7 +71,7 @@ public final class ReportMetadata {
      * @see #getReportDate()
      */
     public String getReportTime() {
-        return TIME_FORMAT.format(reportTime);
+        return TIME_FORMAT.get().format(reportTime);
     }
 
 
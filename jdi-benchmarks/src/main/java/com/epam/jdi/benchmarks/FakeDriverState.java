@@ -0,0 +1,43 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.epam.jdi.benchmarks;
+
+import com.epam.jdi.benchmarks.fake.FakeWebDriver;
+import com.epam.jdi.uitests.web.WebSettings;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+
+/**
+ * JDI initialised with in-memory FakeWebDriver
+ */
+@State(Scope.Benchmark)
+public class FakeDriverState {
+    public FakeWebDriver driver;
+    public String driverName;
+
+    @Setup
+    public void setUp() throws IOException {
+        WebSettings.init();
+        driver = new FakeWebDriver(3);
+        driverName = WebSettings.useDriver(() -> driver);
+        WebSettings.getDriver();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.epam.jdi.benchmarks;
+
+import com.epam.jdi.uitests.web.selenium.elements.apiInteract.ContextType;
+import com.epam.jdi.uitests.web.selenium.elements.common.Button;
+import org.openjdk.jmh.annotations.*;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.epam.jdi.uitests.web.WebSettings.getDriverFactory;
+
+/**
+ * Element search overhead against FakeWebDriver: every search returns 3 elements, 1 of them displayed
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GetElementModuleBenchmark {
+    @Param({"false", "true"})
+    public boolean useCache;
+
+    private Button button;
+    private Button buttonInContext;
+
+    @Setup
+    public void setUp(FakeDriverState state) {
+        getDriverFactory().elementsCache.enabled = useCache;
+        button = new Button(By.id("calculate-button"));
+        button.avatar.setDriverName(state.driverName);
+        buttonInContext = new Button(By.xpath("//button[@type='submit']"));
+        buttonInContext.avatar.setDriverName(state.driverName);
+        buttonInContext.avatar.context.add(ContextType.Frame, By.id("content-frame"));
+        buttonInContext.avatar.context.add(ContextType.Locator, By.xpath("//form[@id='login']"));
+    }
+
+    @Benchmark
+    public WebElement getElement() {
+        return button.avatar.getElement();
+    }
+
+    @Benchmark
+    public WebElement getElementInContext() {
+        return buttonInContext.avatar.getElement();
+    }
+
+    @Benchmark
+    public List<WebElement> getElements() {
+        return button.avatar.getElements();
+    }
+}
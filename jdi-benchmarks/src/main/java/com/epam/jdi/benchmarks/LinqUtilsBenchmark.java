@@ -0,0 +1,65 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.epam.jdi.benchmarks;
+
+import com.epam.commons.LinqUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LinqUtils where/select/first over list of strings
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LinqUtilsBenchmark {
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private List<String> list;
+    private String last;
+
+    @Setup
+    public void setUp() {
+        list = new ArrayList<>();
+        for (int i = 0; i < size; i++)
+            list.add("Value " + i);
+        last = list.get(size - 1);
+    }
+
+    @Benchmark
+    public List<String> where() {
+        return LinqUtils.where(list, value -> value.endsWith("7"));
+    }
+
+    @Benchmark
+    public List<Integer> select() {
+        return LinqUtils.select(list, String::length);
+    }
+
+    @Benchmark
+    public String first() {
+        return LinqUtils.first(list, value -> value.equals(last));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.epam.jdi.benchmarks;
+
+import com.epam.commons.map.MapArray;
+import com.epam.jdi.benchmarks.legacy.LegacyMapArray;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapArray with hash index compared with previous CopyOnWriteArrayList implementation.<br>
+ * Run: mvn -pl jdi-benchmarks -am package &amp;&amp; java -jar jdi-benchmarks/target/benchmarks.jar MapArrayBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapArrayBenchmark {
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private String[] keys;
+    private MapArray<String, Integer> mapArray;
+    private LegacyMapArray<String, Integer> legacyMapArray;
+
+    @Setup
+    public void setUp() {
+        keys = new String[size];
+        for (int i = 0; i < size; i++)
+            keys[i] = "Row " + i;
+        mapArray = new MapArray<>(size, i -> keys[i], i -> i);
+        legacyMapArray = new LegacyMapArray<>(size, i -> keys[i], i -> i);
+    }
+
+    @Benchmark
+    public MapArray<String, Integer> build() {
+        return new MapArray<>(size, i -> keys[i], i -> i);
+    }
+
+    @Benchmark
+    public LegacyMapArray<String, Integer> buildLegacy() {
+        return new LegacyMapArray<>(size, i -> keys[i], i -> i);
+    }
+
+    @Benchmark
+    public void getAll(Blackhole blackhole) {
+        for (String key : keys)
+            blackhole.consume(mapArray.get(key));
+    }
+
+    @Benchmark
+    public void getAllLegacy(Blackhole blackhole) {
+        for (String key : keys)
+            blackhole.consume(legacyMapArray.get(key));
+    }
+
+    @Benchmark
+    public MapArray<String, Integer> update() {
+        return mapArray.update(keys[size / 2], size);
+    }
+
+    @Benchmark
+    public LegacyMapArray<String, Integer> updateLegacy() {
+        return legacyMapArray.update(keys[size / 2], size);
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        for (Integer value : mapArray.values())
+            blackhole.consume(value);
+    }
+
+    @Benchmark
+    public void iterateLegacy(Blackhole blackhole) {
+        for (Integer value : legacyMapArray.values())
+            blackhole.consume(value);
+    }
+}
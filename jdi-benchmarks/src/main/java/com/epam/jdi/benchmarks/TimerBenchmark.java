@@ -0,0 +1,59 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.epam.jdi.benchmarks;
+
+import com.epam.commons.Timer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timer overhead without sleeps: retry timeout is 0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TimerBenchmark {
+    @Param({"1", "10"})
+    public int attempts;
+
+    private int attempt;
+
+    @Benchmark
+    public boolean waitCondition() {
+        attempt = 0;
+        return new Timer(1000, 0).wait(() -> ++attempt >= attempts);
+    }
+
+    @Benchmark
+    public Integer getResultByCondition() {
+        attempt = 0;
+        return new Timer(1000, 0).getResultByCondition(() -> ++attempt, result -> result >= attempts);
+    }
+
+    @Benchmark
+    public Integer nestedTimers() {
+        attempt = 0;
+        return new Timer(1000, 0).getResultByCondition(
+                () -> new Timer(1000, 0).getResultByCondition(() -> ++attempt, result -> result > 0),
+                result -> result >= attempts);
+    }
+}
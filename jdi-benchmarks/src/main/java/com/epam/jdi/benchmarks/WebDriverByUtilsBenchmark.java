@@ -0,0 +1,62 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.epam.jdi.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openqa.selenium.By;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static com.epam.jdi.uitests.web.selenium.driver.WebDriverByUtils.fillByTemplate;
+import static com.epam.jdi.uitests.web.selenium.driver.WebDriverByUtils.getByFunc;
+
+/**
+ * Locators templates as used by tables and selectors
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WebDriverByUtilsBenchmark {
+    private final By xpathTemplate = By.xpath(".//tr[%s]/td[%s]");
+    private final By cssTemplate = By.cssSelector("#menu li:nth-child(%s)");
+    private final By id = By.id("calculate-button");
+
+    @Benchmark
+    public By fillXpathTemplate() {
+        return fillByTemplate(xpathTemplate, 3, 4);
+    }
+
+    @Benchmark
+    public By fillCssTemplate() {
+        return fillByTemplate(cssTemplate, 5);
+    }
+
+    @Benchmark
+    public Function<String, By> getByFuncXpath() {
+        return getByFunc(xpathTemplate);
+    }
+
+    @Benchmark
+    public Function<String, By> getByFuncId() {
+        return getByFunc(id);
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.epam.jdi.benchmarks.fake;
+
+import org.openqa.selenium.*;
+import org.openqa.selenium.logging.Logs;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.singleton;
+
+/**
+ * In-memory WebDriver to measure framework overhead without browser.<br>
+ * Every search returns same list of elements: only first of them is displayed
+ */
+public class FakeWebDriver implements WebDriver, JavascriptExecutor {
+    private final List<WebElement> elements = new ArrayList<>();
+    private final Options options = new FakeOptions();
+    private final TargetLocator targetLocator = new FakeTargetLocator();
+    private String url = "about:blank";
+    public long findCalls;
+
+    public FakeWebDriver() {
+        this(1);
+    }
+
+    /**
+     * @param elementsPerSearch Specify how many elements every search returns
+     */
+    public FakeWebDriver(int elementsPerSearch) {
+        for (int i = 0; i < elementsPerSearch; i++)
+            elements.add(new FakeWebElement(this, "Element " + i, i == 0));
+    }
+
+    public void get(String url) {
+        this.url = url;
+    }
+    public String getCurrentUrl() {
+        return url;
+    }
+    public String getTitle() {
+        return "Fake page";
+    }
+    public List<WebElement> findElements(By by) {
+        findCalls++;
+        return new ArrayList<>(elements);
+    }
+    public WebElement findElement(By by) {
+        findCalls++;
+        if (elements.isEmpty())
+            throw new NoSuchElementException("No elements for " + by);
+        return elements.get(0);
+    }
+    public String getPageSource() {
+        return "<html></html>";
+    }
+    public void close() { }
+    public void quit() { }
+    public Set<String> getWindowHandles() {
+        return singleton(getWindowHandle());
+    }
+    public String getWindowHandle() {
+        return "fake";
+    }
+    public TargetLocator switchTo() {
+        return targetLocator;
+    }
+    public Navigation navigate() {
+        return new FakeNavigation();
+    }
+    public Options manage() {
+        return options;
+    }
+    public Object executeScript(String script, Object... args) {
+        return null;
+    }
+    public Object executeAsyncScript(String script, Object... args) {
+        return null;
+    }
+
+    private class FakeTargetLocator implements TargetLocator {
+        public WebDriver frame(int index) {
+            return FakeWebDriver.this;
+        }
+        public WebDriver frame(String nameOrId) {
+            return FakeWebDriver.this;
+        }
+        public WebDriver frame(WebElement frameElement) {
+            return FakeWebDriver.this;
+        }
+        public WebDriver parentFrame() {
+            return FakeWebDriver.this;
+        }
+        public WebDriver window(String nameOrHandle) {
+            return FakeWebDriver.this;
+        }
+        public WebDriver defaultContent() {
+            return FakeWebDriver.this;
+        }
+        public WebElement activeElement() {
+            return findElement(By.tagName("body"));
+        }
+        public Alert alert() {
+            throw new NoAlertPresentException();
+        }
+    }
+
+    private class FakeNavigation implements Navigation {
+        public void back() { }
+        public void forward() { }
+        public void to(String url) {
+            get(url);
+        }
+        public void to(URL url) {
+            get(url.toString());
+        }
+        public void refresh() { }
+    }
+
+    private static class FakeOptions implements Options {
+        private final Set<Cookie> cookies = new HashSet<>();
+        private final Timeouts timeouts = new FakeTimeouts();
+
+        public void addCookie(Cookie cookie) {
+            cookies.add(cookie);
+        }
+        public void deleteCookieNamed(String name) {
+            cookies.removeIf(cookie -> cookie.getName().equals(name));
+        }
+        public void deleteCookie(Cookie cookie) {
+            cookies.remove(cookie);
+        }
+        public void deleteAllCookies() {
+            cookies.clear();
+        }
+        public Set<Cookie> getCookies() {
+            return new HashSet<>(cookies);
+        }
+        public Cookie getCookieNamed(String name) {
+            for (Cookie cookie : cookies)
+                if (cookie.getName().equals(name))
+                    return cookie;
+            return null;
+        }
+        public Timeouts timeouts() {
+            return timeouts;
+        }
+        public ImeHandler ime() {
+            throw new UnsupportedOperationException("Fake driver has no ime");
+        }
+        public Window window() {
+            throw new UnsupportedOperationException("Fake driver has no window");
+        }
+        public Logs logs() {
+            throw new UnsupportedOperationException("Fake driver has no logs");
+        }
+    }
+
+    private static class FakeTimeouts implements Timeouts {
+        public Timeouts implicitlyWait(long time, TimeUnit unit) {
+            return this;
+        }
+        public Timeouts setScriptTimeout(long time, TimeUnit unit) {
+            return this;
+        }
+        public Timeouts pageLoadTimeout(long time, TimeUnit unit) {
+            return this;
+        }
+    }
+}
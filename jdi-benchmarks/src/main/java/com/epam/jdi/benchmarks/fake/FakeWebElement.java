@@ -0,0 +1,91 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.epam.jdi.benchmarks.fake;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory WebElement: no browser calls, children are taken from FakeWebDriver
+ */
+public class FakeWebElement implements WebElement {
+    private final FakeWebDriver driver;
+    private final boolean displayed;
+    private final Map<String, String> attributes = new HashMap<>();
+    private String text;
+
+    public FakeWebElement(FakeWebDriver driver, String text, boolean displayed) {
+        this.driver = driver;
+        this.text = text;
+        this.displayed = displayed;
+    }
+
+    public void click() { }
+    public void submit() { }
+    public void sendKeys(CharSequence... keysToSend) {
+        StringBuilder builder = new StringBuilder(text);
+        for (CharSequence keys : keysToSend)
+            builder.append(keys);
+        text = builder.toString();
+    }
+    public void clear() {
+        text = "";
+    }
+    public String getTagName() {
+        return "div";
+    }
+    public String getAttribute(String name) {
+        return name.equals("value") ? text : attributes.get(name);
+    }
+    public void setAttribute(String name, String value) {
+        attributes.put(name, value);
+    }
+    public boolean isSelected() {
+        return false;
+    }
+    public boolean isEnabled() {
+        return true;
+    }
+    public String getText() {
+        return text;
+    }
+    public List<WebElement> findElements(By by) {
+        return driver.findElements(by);
+    }
+    public WebElement findElement(By by) {
+        return driver.findElement(by);
+    }
+    public boolean isDisplayed() {
+        return displayed;
+    }
+    public Point getLocation() {
+        return new Point(0, 0);
+    }
+    public Dimension getSize() {
+        return new Dimension(100, 20);
+    }
+    public String getCssValue(String propertyName) {
+        return "";
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.epam.jdi.benchmarks.legacy;
+
+import com.epam.commons.LinqUtils;
+import com.epam.commons.pairs.Pair;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/**
+ * MapArray before hash index: pairs in CopyOnWriteArrayList and linear search by key.
+ * Kept only for comparison in benchmarks
+ */
+public class LegacyMapArray<K, V> {
+    public List<Pair<K, V>> pairs;
+
+    public LegacyMapArray() {
+        pairs = new CopyOnWriteArrayList<>();
+    }
+
+    public LegacyMapArray(int count, Function<Integer, K> key, Function<Integer, V> value) {
+        this();
+        for (int i = 0; i < count; i++)
+            add(key.apply(i), value.apply(i));
+    }
+
+    public boolean add(K key, V value) {
+        if (hasKey(key))
+            return false;
+        pairs.add(new Pair<>(key, value));
+        return true;
+    }
+
+    public LegacyMapArray<K, V> update(K key, V value) {
+        if (hasKey(key))
+            removeByKey(key);
+        pairs.add(new Pair<>(key, value));
+        return this;
+    }
+
+    public boolean hasKey(K key) {
+        return keys().contains(key);
+    }
+
+    public V get(K key) {
+        Pair<K, V> first = null;
+        try {
+            first = LinqUtils.first(pairs, pair -> pair.key.equals(key));
+        } catch (Exception ignore) {
+        }
+        return (first != null) ? first.value : null;
+    }
+
+    public Collection<K> keys() {
+        return LinqUtils.select(pairs, pair -> pair.key);
+    }
+
+    public Collection<V> values() {
+        return LinqUtils.select(pairs, pair -> pair.value);
+    }
+
+    public void removeByKey(K key) {
+        pairs.remove(LinqUtils.firstIndex(pairs, pair -> pair.key.equals(key)));
+    }
+
+    public int size() {
+        return pairs.size();
+    }
+}
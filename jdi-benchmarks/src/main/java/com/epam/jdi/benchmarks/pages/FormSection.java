@@ -0,0 +1,68 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.epam.jdi.benchmarks.pages;
+
+import com.epam.jdi.uitests.core.interfaces.common.*;
+import com.epam.jdi.uitests.web.selenium.elements.composite.Section;
+import org.openqa.selenium.support.FindBy;
+
+/**
+ * Section with 20 elements for CascadeInit benchmark
+ */
+public class FormSection extends Section {
+    @FindBy(id = "button0")
+    public IButton button0;
+    @FindBy(css = "#field1 input")
+    public ITextField field1;
+    @FindBy(xpath = "//*[@id='label2']")
+    public ILabel label2;
+    @FindBy(css = "#checkbox3")
+    public ICheckBox checkbox3;
+    @FindBy(css = "a.link4")
+    public ILink link4;
+    @FindBy(id = "button5")
+    public IButton button5;
+    @FindBy(css = "#field6 input")
+    public ITextField field6;
+    @FindBy(xpath = "//*[@id='label7']")
+    public ILabel label7;
+    @FindBy(css = "#checkbox8")
+    public ICheckBox checkbox8;
+    @FindBy(css = "a.link9")
+    public ILink link9;
+    @FindBy(id = "button10")
+    public IButton button10;
+    @FindBy(css = "#field11 input")
+    public ITextField field11;
+    @FindBy(xpath = "//*[@id='label12']")
+    public ILabel label12;
+    @FindBy(css = "#checkbox13")
+    public ICheckBox checkbox13;
+    @FindBy(css = "a.link14")
+    public ILink link14;
+    @FindBy(id = "button15")
+    public IButton button15;
+    @FindBy(css = "#field16 input")
+    public ITextField field16;
+    @FindBy(xpath = "//*[@id='label17']")
+    public ILabel label17;
+    @FindBy(css = "#checkbox18")
+    public ICheckBox checkbox18;
+    @FindBy(css = "a.link19")
+    public ILink link19;
+}
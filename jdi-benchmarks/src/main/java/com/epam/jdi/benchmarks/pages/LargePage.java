@@ -0,0 +1,148 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.epam.jdi.benchmarks.pages;
+
+import com.epam.jdi.uitests.core.interfaces.common.*;
+import com.epam.jdi.uitests.web.selenium.elements.composite.WebPage;
+import org.openqa.selenium.support.FindBy;
+
+/**
+ * Page with 10 sections and 50 own elements (250 elements in total) for CascadeInit benchmark
+ */
+public class LargePage extends WebPage {
+    @FindBy(css = ".form-0")
+    public FormSection form0;
+    @FindBy(css = ".form-1")
+    public FormSection form1;
+    @FindBy(css = ".form-2")
+    public FormSection form2;
+    @FindBy(css = ".form-3")
+    public FormSection form3;
+    @FindBy(css = ".form-4")
+    public FormSection form4;
+    @FindBy(css = ".form-5")
+    public FormSection form5;
+    @FindBy(css = ".form-6")
+    public FormSection form6;
+    @FindBy(css = ".form-7")
+    public FormSection form7;
+    @FindBy(css = ".form-8")
+    public FormSection form8;
+    @FindBy(css = ".form-9")
+    public FormSection form9;
+    @FindBy(id = "pageButton0")
+    public IButton pageButton0;
+    @FindBy(css = "#pageField1 input")
+    public ITextField pageField1;
+    @FindBy(xpath = "//*[@id='pageLabel2']")
+    public ILabel pageLabel2;
+    @FindBy(css = "#pageCheckbox3")
+    public ICheckBox pageCheckbox3;
+    @FindBy(css = "a.pageLink4")
+    public ILink pageLink4;
+    @FindBy(id = "pageButton5")
+    public IButton pageButton5;
+    @FindBy(css = "#pageField6 input")
+    public ITextField pageField6;
+    @FindBy(xpath = "//*[@id='pageLabel7']")
+    public ILabel pageLabel7;
+    @FindBy(css = "#pageCheckbox8")
+    public ICheckBox pageCheckbox8;
+    @FindBy(css = "a.pageLink9")
+    public ILink pageLink9;
+    @FindBy(id = "pageButton10")
+    public IButton pageButton10;
+    @FindBy(css = "#pageField11 input")
+    public ITextField pageField11;
+    @FindBy(xpath = "//*[@id='pageLabel12']")
+    public ILabel pageLabel12;
+    @FindBy(css = "#pageCheckbox13")
+    public ICheckBox pageCheckbox13;
+    @FindBy(css = "a.pageLink14")
+    public ILink pageLink14;
+    @FindBy(id = "pageButton15")
+    public IButton pageButton15;
+    @FindBy(css = "#pageField16 input")
+    public ITextField pageField16;
+    @FindBy(xpath = "//*[@id='pageLabel17']")
+    public ILabel pageLabel17;
+    @FindBy(css = "#pageCheckbox18")
+    public ICheckBox pageCheckbox18;
+    @FindBy(css = "a.pageLink19")
+    public ILink pageLink19;
+    @FindBy(id = "pageButton20")
+    public IButton pageButton20;
+    @FindBy(css = "#pageField21 input")
+    public ITextField pageField21;
+    @FindBy(xpath = "//*[@id='pageLabel22']")
+    public ILabel pageLabel22;
+    @FindBy(css = "#pageCheckbox23")
+    public ICheckBox pageCheckbox23;
+    @FindBy(css = "a.pageLink24")
+    public ILink pageLink24;
+    @FindBy(id = "pageButton25")
+    public IButton pageButton25;
+    @FindBy(css = "#pageField26 input")
+    public ITextField pageField26;
+    @FindBy(xpath = "//*[@id='pageLabel27']")
+    public ILabel pageLabel27;
+    @FindBy(css = "#pageCheckbox28")
+    public ICheckBox pageCheckbox28;
+    @FindBy(css = "a.pageLink29")
+    public ILink pageLink29;
+    @FindBy(id = "pageButton30")
+    public IButton pageButton30;
+    @FindBy(css = "#pageField31 input")
+    public ITextField pageField31;
+    @FindBy(xpath = "//*[@id='pageLabel32']")
+    public ILabel pageLabel32;
+    @FindBy(css = "#pageCheckbox33")
+    public ICheckBox pageCheckbox33;
+    @FindBy(css = "a.pageLink34")
+    public ILink pageLink34;
+    @FindBy(id = "pageButton35")
+    public IButton pageButton35;
+    @FindBy(css = "#pageField36 input")
+    public ITextField pageField36;
+    @FindBy(xpath = "//*[@id='pageLabel37']")
+    public ILabel pageLabel37;
+    @FindBy(css = "#pageCheckbox38")
+    public ICheckBox pageCheckbox38;
+    @FindBy(css = "a.pageLink39")
+    public ILink pageLink39;
+    @FindBy(id = "pageButton40")
+    public IButton pageButton40;
+    @FindBy(css = "#pageField41 input")
+    public ITextField pageField41;
+    @FindBy(xpath = "//*[@id='pageLabel42']")
+    public ILabel pageLabel42;
+    @FindBy(css = "#pageCheckbox43")
+    public ICheckBox pageCheckbox43;
+    @FindBy(css = "a.pageLink44")
+    public ILink pageLink44;
+    @FindBy(id = "pageButton45")
+    public IButton pageButton45;
+    @FindBy(css = "#pageField46 input")
+    public ITextField pageField46;
+    @FindBy(xpath = "//*[@id='pageLabel47']")
+    public ILabel pageLabel47;
+    @FindBy(css = "#pageCheckbox48")
+    public ICheckBox pageCheckbox48;
+    @FindBy(css = "a.pageLink49")
+    public ILink pageLink49;
+}
@@ -81,6 +81,22 @@ public class ReflectionUtils {
         return (T) getValueField(LinqUtils.first(obj.getClass().getDeclaredFields(), field -> isClass(field, type) || isInterface(field, type)), obj);
     }
 
+    /**
+     * @param type Checked class
+     * @param base Class that declares the method; its own declaration is not counted
+     * @param methodName Method name
+     * @param parameterTypes Method parameter types
+     * @return true if type or one of its superclasses below base declares the method
+     */
+    public static boolean isOverridden(Class<?> type, Class<?> base, String methodName, Class<?>... parameterTypes) {
+        for (Class<?> clazz = type; clazz != null && clazz != base; clazz = clazz.getSuperclass())
+            try {
+                clazz.getDeclaredMethod(methodName, parameterTypes);
+                return true;
+            } catch (NoSuchMethodException ignore) { }
+        return false;
+    }
+
     public static Object getValueField(Field field, Object obj) {
         field.setAccessible(true);
         try {
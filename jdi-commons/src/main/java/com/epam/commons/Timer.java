@@ -19,21 +19,36 @@ package com.epam.commons;
 
 import com.epam.commons.linqinterfaces.JAction;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.lang.System.currentTimeMillis;
 
 /**
  * Created by 12345 on 28.09.2014.
  */
 public class Timer {
-    private Long start = currentTimeMillis();
+    private static volatile long defaultRetryTimeoutInMSec = 100;
+    private static volatile WaitStrategy defaultWaitStrategy = WaitStrategy.fixed();
+    /**
+     * Wait started inside another wait in the same thread never lasts longer than outer one
+     */
+    private static volatile boolean collapseNestedTimers = true;
+    private static final ThreadLocal<Long> activeDeadline = new ThreadLocal<>();
+    private static final Map<String, DateTimeFormatter> formatters = new ConcurrentHashMap<>();
+
+    private long start = currentTimeMillis();
     private long timeoutInMSec = 5 * 1000L;
-    private long retryTimeoutInMSec = 100;
+    private long retryTimeoutInMSec = defaultRetryTimeoutInMSec;
+    private WaitStrategy waitStrategy = defaultWaitStrategy;
+    private long outerDeadline = Long.MAX_VALUE;
 
     public Timer() {
     }
@@ -51,6 +66,30 @@ public class Timer {
 
     public void restart() { start = currentTimeMillis(); }
 
+    public static long getDefaultRetryTimeout() {
+        return defaultRetryTimeoutInMSec;
+    }
+
+    public static void setDefaultRetryTimeout(long retryTimeoutInMSec) {
+        defaultRetryTimeoutInMSec = retryTimeoutInMSec;
+    }
+
+    public static WaitStrategy getDefaultWaitStrategy() {
+        return defaultWaitStrategy;
+    }
+
+    public static void setDefaultWaitStrategy(WaitStrategy waitStrategy) {
+        defaultWaitStrategy = waitStrategy;
+    }
+
+    public static boolean isCollapseNestedTimers() {
+        return collapseNestedTimers;
+    }
+
+    public static void setCollapseNestedTimers(boolean collapse) {
+        collapseNestedTimers = collapse;
+    }
+
     public static String nowTime() {
         return nowTime("HH:mm:ss.SSS");
     }
@@ -64,7 +103,7 @@ public class Timer {
     }
 
     public static String nowTime(String timeFormat) {
-        return new SimpleDateFormat(timeFormat).format(new Date());
+        return LocalDateTime.now().format(formatters.computeIfAbsent(timeFormat, DateTimeFormatter::ofPattern));
     }
 
     public static String nowMSecs() {
@@ -97,6 +136,36 @@ public class Timer {
         return new Timer().wait(condition);
     }
 
+    /**
+     * @param timeoutInMSec Specify time for action
+     * @param action        Specify action with waits inside
+     * @return Result of action: waits started inside action in the same thread don't last longer than timeout
+     */
+    public static <T> T limitWaits(long timeoutInMSec, Supplier<T> action) {
+        Long outer = activeDeadline.get();
+        long deadline = currentTimeMillis() + timeoutInMSec;
+        activeDeadline.set(outer != null ? min(outer, deadline) : deadline);
+        try {
+            return action.get();
+        } finally {
+            if (outer == null)
+                activeDeadline.remove();
+            else
+                activeDeadline.set(outer);
+        }
+    }
+
+    /**
+     * @param timeoutInMSec Specify time for wait
+     * @return Time left for wait started now in this thread: timeout cut by outer wait or limitWaits
+     */
+    public static long remainingTimeout(long timeoutInMSec) {
+        Long outer = activeDeadline.get();
+        return collapseNestedTimers && outer != null
+                ? max(0, min(timeoutInMSec, outer - currentTimeMillis()))
+                : timeoutInMSec;
+    }
+
     public Timer setTimeout(long timeoutInMSec) {
         this.timeoutInMSec = timeoutInMSec;
         return this;
@@ -107,26 +176,37 @@ public class Timer {
         return this;
     }
 
+    public Timer setWaitStrategy(WaitStrategy waitStrategy) {
+        this.waitStrategy = waitStrategy;
+        return this;
+    }
+
     public Long timePassedInMSec() {
-        Long now = currentTimeMillis();
-        return now - start;
+        return currentTimeMillis() - start;
     }
 
     public boolean timeoutPassed() {
-        return timePassedInMSec() > timeoutInMSec;
+        return timePassedInMSec() > timeoutInMSec || currentTimeMillis() > outerDeadline;
     }
 
     public boolean wait(BooleanSupplier waitCase) {
-        Throwable exception = null;
-        while (!timeoutPassed())
-            try {
-                if (waitCase.getAsBoolean())
-                    return true;
-                sleep(retryTimeoutInMSec);
-            } catch (Exception | Error ex) { exception = ex;}
-        if (exception != null)
-            throw new RuntimeException(exception);
-        return false;
+        Long outer = startWait();
+        try {
+            Throwable exception = null;
+            int attempt = 0;
+            do {
+                try {
+                    if (waitCase.getAsBoolean())
+                        return true;
+                } catch (Exception | Error ex) { exception = ex;}
+                pause(++attempt);
+            } while (!timeoutPassed());
+            if (exception != null)
+                throw new RuntimeException(exception);
+            return false;
+        } finally {
+            finishWait(outer);
+        }
     }
 
     public <T> T getResult(Supplier<T> getFunc) {
@@ -134,18 +214,46 @@ public class Timer {
     }
 
     public <T> T getResultByCondition(Supplier<T> getFunc, Function<T, Boolean> conditionFunc) {
-        Throwable exception = null;
-         do {
-            try {
-                T result = getFunc.get();
-                if (result != null && conditionFunc.apply(result))
-                    return result;
-            } catch (Exception | Error ex) { exception = ex;}
-            sleep(retryTimeoutInMSec);
-        } while (!timeoutPassed());
-        if (exception != null)
-            throw new RuntimeException(exception);
-        return null;
+        Long outer = startWait();
+        try {
+            Throwable exception = null;
+            int attempt = 0;
+            do {
+                try {
+                    T result = getFunc.get();
+                    if (result != null && conditionFunc.apply(result))
+                        return result;
+                } catch (Exception | Error ex) { exception = ex;}
+                pause(++attempt);
+            } while (!timeoutPassed());
+            if (exception != null)
+                throw new RuntimeException(exception);
+            return null;
+        } finally {
+            finishWait(outer);
+        }
+    }
+
+    private Long startWait() {
+        Long outer = activeDeadline.get();
+        outerDeadline = collapseNestedTimers && outer != null ? outer : Long.MAX_VALUE;
+        activeDeadline.set(min(start + timeoutInMSec, outerDeadline));
+        return outer;
+    }
+
+    private void finishWait(Long outer) {
+        if (outer == null)
+            activeDeadline.remove();
+        else
+            activeDeadline.set(outer);
+    }
+
+    private void pause(int attempt) {
+        long timeLeft = min(start + timeoutInMSec, outerDeadline) - currentTimeMillis();
+        if (timeLeft < 0) return;
+        long delay = waitStrategy.nextDelay(attempt, retryTimeoutInMSec);
+        if (delay > 0)
+            sleep(min(delay, timeLeft + 1));
     }
 
 }
\ No newline at end of file
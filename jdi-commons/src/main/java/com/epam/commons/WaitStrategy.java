@@ -0,0 +1,87 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.epam.commons;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.lang.Math.min;
+
+/**
+ * Delay between attempts of {@link Timer} waits.
+ * Attempt 1 is the delay after the first failed try
+ */
+@FunctionalInterface
+public interface WaitStrategy {
+    long nextDelay(int attempt, long retryTimeoutInMSec);
+
+    static WaitStrategy fixed() {
+        return (attempt, retryTimeoutInMSec) -> retryTimeoutInMSec;
+    }
+
+    /**
+     * @param factor         Specify growth of delay between attempts
+     * @param maxDelayInMSec Specify max delay
+     * @return retryTimeout, retryTimeout*factor, retryTimeout*factor^2 ... but not more than maxDelayInMSec
+     */
+    static WaitStrategy exponential(double factor, long maxDelayInMSec) {
+        return (attempt, retryTimeoutInMSec) ->
+                (long) min(retryTimeoutInMSec * Math.pow(factor, attempt - 1), maxDelayInMSec);
+    }
+
+    static WaitStrategy exponential() {
+        return exponential(2, 1000);
+    }
+
+    /**
+     * @param strategy Specify base strategy
+     * @return random delay between half and full delay of base strategy
+     */
+    static WaitStrategy jittered(WaitStrategy strategy) {
+        return (attempt, retryTimeoutInMSec) -> {
+            long delay = strategy.nextDelay(attempt, retryTimeoutInMSec);
+            return delay < 2 ? delay : ThreadLocalRandom.current().nextLong(delay / 2, delay + 1);
+        };
+    }
+
+    /**
+     * @param strategy Specify base strategy
+     * @return retry first failed attempt without delay and use base strategy after
+     */
+    static WaitStrategy immediateFirstTry(WaitStrategy strategy) {
+        return (attempt, retryTimeoutInMSec) -> attempt <= 1
+                ? 0
+                : strategy.nextDelay(attempt - 1, retryTimeoutInMSec);
+    }
+
+    static WaitStrategy getStrategy(String name) {
+        switch (name.toLowerCase()) {
+            case "fixed":
+                return fixed();
+            case "exponential":
+            case "backoff":
+                return exponential();
+            case "jitter":
+            case "jittered":
+                return jittered(exponential());
+            case "immediate":
+                return immediateFirstTry(exponential());
+            default:
+                throw new RuntimeException("Unknown wait strategy: " + name);
+        }
+    }
+}
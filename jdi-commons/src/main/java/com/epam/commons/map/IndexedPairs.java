@@ -0,0 +1,286 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.epam.commons.map;
+
+import com.epam.commons.pairs.Pair;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * List of pairs with hash index by key for MapArray.<br>
+ * Keeps insertion order in array and first pair for every key in hash map.
+ * Iterators work with snapshot of list: array copied on next change only if it was iterated
+ */
+class IndexedPairs<K, V> extends AbstractList<Pair<K, V>> implements RandomAccess {
+    private static final int DEFAULT_CAPACITY = 10;
+    private Object[] elements;
+    private int size;
+    private boolean shared;
+    private final Map<K, Pair<K, V>> firstByKey;
+
+    IndexedPairs() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    IndexedPairs(int capacity) {
+        elements = new Object[Math.max(capacity, DEFAULT_CAPACITY)];
+        firstByKey = new HashMap<>(Math.max(capacity, DEFAULT_CAPACITY) * 4 / 3 + 1);
+    }
+
+    IndexedPairs(Collection<Pair<K, V>> pairs) {
+        this(pairs.size());
+        for (Pair<K, V> pair : pairs)
+            add(pair);
+    }
+
+    synchronized Pair<K, V> find(K key) {
+        return firstByKey.get(key);
+    }
+
+    synchronized boolean hasKey(K key) {
+        return firstByKey.containsKey(key);
+    }
+
+    synchronized boolean addIfAbsent(Pair<K, V> pair) {
+        if (firstByKey.containsKey(pair.key))
+            return false;
+        append(pair);
+        return true;
+    }
+
+    synchronized Pair<K, V> removeKey(K key) {
+        Pair<K, V> first = firstByKey.get(key);
+        if (first == null)
+            return null;
+        for (int i = 0; i < size; i++)
+            if (elements[i] == first)
+                return remove(i);
+        return null;
+    }
+
+    synchronized void reverse() {
+        ensureWritable(size);
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            Object pair = elements[i];
+            elements[i] = elements[j];
+            elements[j] = pair;
+        }
+        modCount++;
+        reindex();
+    }
+
+    @Override
+    public synchronized Pair<K, V> get(int index) {
+        rangeCheck(index);
+        return pair(index);
+    }
+
+    @Override
+    public synchronized int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized boolean add(Pair<K, V> pair) {
+        append(pair);
+        return true;
+    }
+
+    @Override
+    public synchronized void add(int index, Pair<K, V> pair) {
+        if (index == size) {
+            append(pair);
+            return;
+        }
+        rangeCheck(index);
+        ensureWritable(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = pair;
+        size++;
+        modCount++;
+        indexInserted(index, pair);
+    }
+
+    @Override
+    public synchronized Pair<K, V> set(int index, Pair<K, V> pair) {
+        rangeCheck(index);
+        ensureWritable(size);
+        Pair<K, V> old = pair(index);
+        elements[index] = pair;
+        indexRemoved(index, old);
+        indexInserted(index, pair);
+        return old;
+    }
+
+    @Override
+    public synchronized Pair<K, V> remove(int index) {
+        rangeCheck(index);
+        ensureWritable(size);
+        Pair<K, V> old = pair(index);
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        elements[--size] = null;
+        modCount++;
+        indexRemoved(index, old);
+        return old;
+    }
+
+    @Override
+    public synchronized boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index < 0)
+            return false;
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean removeIf(Predicate<? super Pair<K, V>> filter) {
+        ensureWritable(size);
+        int newSize = 0;
+        for (int i = 0; i < size; i++) {
+            Pair<K, V> pair = pair(i);
+            if (!filter.test(pair))
+                elements[newSize++] = pair;
+        }
+        if (newSize == size)
+            return false;
+        Arrays.fill(elements, newSize, size, null);
+        size = newSize;
+        modCount++;
+        reindex();
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return removeIf(c::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return removeIf(pair -> !c.contains(pair));
+    }
+
+    @Override
+    public synchronized void clear() {
+        elements = new Object[DEFAULT_CAPACITY];
+        size = 0;
+        shared = false;
+        modCount++;
+        firstByKey.clear();
+    }
+
+    @Override
+    public synchronized int indexOf(Object o) {
+        for (int i = 0; i < size; i++)
+            if (Objects.equals(o, elements[i]))
+                return i;
+        return -1;
+    }
+
+    @Override
+    public synchronized int lastIndexOf(Object o) {
+        for (int i = size - 1; i >= 0; i--)
+            if (Objects.equals(o, elements[i]))
+                return i;
+        return -1;
+    }
+
+    @Override
+    public synchronized Iterator<Pair<K, V>> iterator() {
+        shared = true;
+        return new SnapshotIterator<>(elements, size);
+    }
+
+    @Override
+    public synchronized Object[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    private Pair<K, V> pair(int index) {
+        return (Pair<K, V>) elements[index];
+    }
+
+    private void append(Pair<K, V> pair) {
+        ensureWritable(size + 1);
+        elements[size++] = pair;
+        modCount++;
+        firstByKey.putIfAbsent(pair.key, pair);
+    }
+
+    private void ensureWritable(int capacity) {
+        if (!shared && elements.length >= capacity)
+            return;
+        int newCapacity = elements.length >= capacity
+                ? elements.length
+                : Math.max(capacity, elements.length + (elements.length >> 1));
+        elements = Arrays.copyOf(elements, newCapacity);
+        shared = false;
+    }
+
+    private void indexInserted(int index, Pair<K, V> pair) {
+        for (int i = 0; i < index; i++)
+            if (Objects.equals(pair(i).key, pair.key))
+                return;
+        firstByKey.put(pair.key, pair);
+    }
+
+    private void indexRemoved(int index, Pair<K, V> pair) {
+        if (firstByKey.get(pair.key) != pair)
+            return;
+        for (int i = index; i < size; i++)
+            if (Objects.equals(pair(i).key, pair.key)) {
+                firstByKey.put(pair.key, pair(i));
+                return;
+            }
+        firstByKey.remove(pair.key);
+    }
+
+    private void reindex() {
+        firstByKey.clear();
+        for (int i = 0; i < size; i++)
+            firstByKey.putIfAbsent(pair(i).key, pair(i));
+    }
+
+    private void rangeCheck(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    private static class SnapshotIterator<K, V> implements Iterator<Pair<K, V>> {
+        private final Object[] elements;
+        private final int size;
+        private int cursor;
+
+        private SnapshotIterator(Object[] elements, int size) {
+            this.elements = elements;
+            this.size = size;
+        }
+
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        public Pair<K, V> next() {
+            if (cursor >= size)
+                throw new NoSuchElementException();
+            return (Pair<K, V>) elements[cursor++];
+        }
+    }
+}
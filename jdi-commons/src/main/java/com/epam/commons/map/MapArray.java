@@ -21,7 +21,6 @@ import com.epam.commons.LinqUtils;
 import com.epam.commons.pairs.Pair;
 
 import java.util.*;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -33,12 +32,17 @@ import static java.util.stream.Collectors.toList;
 
 /**
  * Created by Roman_Iovlev on 6/3/2015.
+ * Pairs kept in insertion order with hash index by key: get, hasKey and add don't scan pairs
  */
 public class MapArray<K, V> implements Collection<Pair<K, V>>, Cloneable {
     public List<Pair<K, V>> pairs;
 
     public MapArray() {
-        pairs = new CopyOnWriteArrayList<>();
+        pairs = new IndexedPairs<>();
+    }
+
+    private MapArray(int capacity) {
+        pairs = new IndexedPairs<>(capacity);
     }
 
     public MapArray(K key, V value) {
@@ -47,37 +51,37 @@ public class MapArray<K, V> implements Collection<Pair<K, V>>, Cloneable {
     }
 
     public <T> MapArray(Collection<T> collection, Function<T, K> key, Function<T, V> value) {
-        this();
+        this(collection.size());
         for (T t : collection)
             add(key.apply(t), value.apply(t));
     }
 
     public MapArray(Collection<K> collection, Function<K, V> value) {
-        this();
+        this(collection.size());
         for (K k : collection)
             add(k, value.apply(k));
     }
 
     public <T> MapArray(T[] array, Function<T, K> key, Function<T, V> value) {
-        this();
+        this(array.length);
         for (T t : array)
             add(key.apply(t), value.apply(t));
     }
 
     public MapArray(K[] array, Function<K, V> value) {
-        this();
+        this(array.length);
         for (K k : array)
             add(k, value.apply(k));
     }
 
     public MapArray(int count, Function<Integer, K> key, Function<Integer, V> value) {
-        this();
+        this(count);
         for (int i = 0; i < count; i++)
             add(key.apply(i), value.apply(i));
     }
 
     public MapArray(MapArray<K, V> mapArray) {
-        this();
+        this(mapArray.size());
         addAll(mapArray.stream().collect(toList()));
     }
 
@@ -122,11 +126,14 @@ public class MapArray<K, V> implements Collection<Pair<K, V>>, Cloneable {
         return result;
     }
 
+    private IndexedPairs<K, V> index() {
+        if (!(pairs instanceof IndexedPairs))
+            pairs = new IndexedPairs<>(pairs);
+        return (IndexedPairs<K, V>) pairs;
+    }
+
     public boolean add(K key, V value) {
-        if (hasKey(key))
-            return false;
-        pairs.add(new Pair<>(key, value));
-        return true;
+        return index().addIfAbsent(new Pair<>(key, value));
     }
     public MapArray<K,V> update(K key, V value) {
         if (hasKey(key))
@@ -165,16 +172,13 @@ public class MapArray<K, V> implements Collection<Pair<K, V>>, Cloneable {
     }
 
     private boolean hasKey(K key) {
-        return keys().contains(key);
+        return index().hasKey(key);
     }
 
     public boolean addFirst(K key, V value) {
         if (hasKey(key))
             return false;
-        List<Pair<K, V>> result = new CopyOnWriteArrayList<>();
-        result.add(new Pair<>(key, value));
-        result.addAll(pairs);
-        pairs = result;
+        pairs.add(0, new Pair<>(key, value));
         return true;
     }
 
@@ -187,11 +191,7 @@ public class MapArray<K, V> implements Collection<Pair<K, V>>, Cloneable {
             return get(key);
         }*/
     public V get(K key) {
-        Pair<K, V> first = null;
-        try {
-            first = LinqUtils.first(pairs, pair -> pair.key.equals(key));
-        } catch (Exception ignore) {
-        }
+        Pair<K, V> first = index().find(key);
         return (first != null) ? first.value : null;
     }
 
@@ -253,10 +253,7 @@ public class MapArray<K, V> implements Collection<Pair<K, V>>, Cloneable {
     }
 
     public MapArray<K, V> revert() {
-        List<Pair<K, V>> result = new CopyOnWriteArrayList<>();
-        for (int i = size() - 1; i >= 0; i--)
-            result.add(get(i));
-        pairs = result;
+        index().reverse();
         return this;
     }
 
@@ -292,21 +289,15 @@ public class MapArray<K, V> implements Collection<Pair<K, V>>, Cloneable {
     }*/
 
     public boolean remove(Object o) {
-        boolean isRemoved = false;
-        for (Object kv : pairs)
-            if (kv.equals(o)) {
-                pairs.remove(kv);
-                isRemoved = true;
-            }
-        return isRemoved;
+        return pairs.removeIf(kv -> kv.equals(o));
     }
 
     public void removeByKey(K key) {
-        pairs.remove(LinqUtils.firstIndex(pairs, pair -> pair.key.equals(key)));
+        index().removeKey(key);
     }
 
     public void removeAllValues(V value) {
-        LinqUtils.where(pairs, p -> p.value.equals(value)).forEach(pairs::remove);
+        pairs.removeIf(p -> p.value.equals(value));
     }
 
     public boolean containsAll(Collection<?> c) {
@@ -330,10 +321,7 @@ public class MapArray<K, V> implements Collection<Pair<K, V>>, Cloneable {
     }
 
     public boolean retainAll(Collection<?> c) {
-        for (Pair pair : pairs)
-            if (!c.contains(pair))
-                if (!remove(pair))
-                    return false;
+        pairs.removeIf(pair -> !c.contains(pair));
         return true;
     }
 
@@ -0,0 +1,41 @@
+package com.epam.commons;
+
+import org.testng.annotations.Test;
+
+import static com.epam.commons.ReflectionUtils.isOverridden;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ReflectionUtilsTests {
+    public static class Base {
+        protected void action(String value) { }
+        protected void action() { }
+    }
+    public static class Middle extends Base {
+        @Override
+        protected void action(String value) { }
+    }
+    public static class Child extends Middle { }
+
+    @Test
+    public void baseDeclarationIsNotOverride() {
+        assertFalse(isOverridden(Base.class, Base.class, "action", String.class));
+    }
+
+    @Test
+    public void overrideInClassOrSuperclass() {
+        assertTrue(isOverridden(Middle.class, Base.class, "action", String.class));
+        assertTrue(isOverridden(Child.class, Base.class, "action", String.class));
+    }
+
+    @Test
+    public void overloadIsCheckedByParameters() {
+        assertFalse(isOverridden(Child.class, Base.class, "action"));
+        assertFalse(isOverridden(Child.class, Base.class, "action", Integer.class));
+    }
+
+    @Test
+    public void overridesAboveBaseAreIgnored() {
+        assertFalse(isOverridden(Child.class, Middle.class, "action", String.class));
+    }
+}
@@ -0,0 +1,99 @@
+package com.epam.commons;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+public class TimerTests {
+
+    @AfterMethod
+    public void restoreDefaults() {
+        Timer.setCollapseNestedTimers(true);
+    }
+
+    @Test
+    public void getResultRetriesAssertionErrors() {
+        AtomicInteger attempts = new AtomicInteger();
+        String result = new Timer(2000, 10).getResult(() -> {
+            if (attempts.incrementAndGet() <= 2)
+                throw new AssertionError("Not found yet");
+            return "found";
+        });
+        assertEquals(result, "found");
+        assertEquals(attempts.get(), 3);
+    }
+
+    @Test
+    public void waitRetriesAssertionErrors() {
+        AtomicInteger attempts = new AtomicInteger();
+        boolean result = new Timer(2000, 10).wait(() -> {
+            if (attempts.incrementAndGet() <= 2)
+                throw new AssertionError("Not found yet");
+            return true;
+        });
+        assertTrue(result);
+        assertEquals(attempts.get(), 3);
+    }
+
+    @Test
+    public void lastErrorIsThrownAfterTimeout() {
+        try {
+            new Timer(50, 10).getResult(() -> {
+                throw new AssertionError("Never found");
+            });
+            fail("Exception expected");
+        } catch (RuntimeException ex) {
+            assertTrue(ex.getCause() instanceof AssertionError);
+        }
+    }
+
+    @Test
+    public void waitReturnsFalseAfterTimeout() {
+        assertFalse(new Timer(50, 10).wait(() -> false));
+    }
+
+    @Test
+    public void nestedWaitIsCutByOuterDeadline() {
+        Timer outer = new Timer(300, 10);
+        long[] innerTime = new long[1];
+        outer.wait(() -> {
+            long start = System.currentTimeMillis();
+            new Timer(5000, 10).wait(() -> false);
+            innerTime[0] = System.currentTimeMillis() - start;
+            return true;
+        });
+        assertTrue(innerTime[0] < 2000, "Inner wait took " + innerTime[0] + " ms");
+    }
+
+    @Test
+    public void nestedWaitIsNotCutIfCollapseIsOff() {
+        Timer.setCollapseNestedTimers(false);
+        long[] innerTime = new long[1];
+        Timer.limitWaits(50, () -> {
+            long start = System.currentTimeMillis();
+            new Timer(300, 10).wait(() -> false);
+            innerTime[0] = System.currentTimeMillis() - start;
+            return null;
+        });
+        assertTrue(innerTime[0] >= 300, "Inner wait took " + innerTime[0] + " ms");
+    }
+
+    @Test
+    public void limitWaitsCutsWaitsInside() {
+        long start = System.currentTimeMillis();
+        Timer.limitWaits(0, () -> new Timer(5000, 10).wait(() -> false));
+        assertTrue(System.currentTimeMillis() - start < 2000);
+    }
+
+    @Test
+    public void remainingTimeout() {
+        assertEquals(Timer.remainingTimeout(1000), 1000);
+        long remaining = Timer.limitWaits(200, () -> Timer.remainingTimeout(1000));
+        assertTrue(remaining <= 200 && remaining > 0, "Remaining " + remaining);
+        assertEquals((long) Timer.limitWaits(5000, () -> Timer.remainingTimeout(1000)), 1000);
+        assertEquals(Timer.remainingTimeout(1000), 1000);
+    }
+}
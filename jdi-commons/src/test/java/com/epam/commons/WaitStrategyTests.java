@@ -0,0 +1,55 @@
+package com.epam.commons;
+
+import org.testng.annotations.Test;
+
+import static com.epam.commons.WaitStrategy.*;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class WaitStrategyTests {
+
+    @Test
+    public void fixedDelay() {
+        assertEquals(fixed().nextDelay(1, 100), 100);
+        assertEquals(fixed().nextDelay(10, 100), 100);
+    }
+
+    @Test
+    public void exponentialDelayIsLimited() {
+        WaitStrategy strategy = exponential(2, 500);
+        assertEquals(strategy.nextDelay(1, 100), 100);
+        assertEquals(strategy.nextDelay(2, 100), 200);
+        assertEquals(strategy.nextDelay(3, 100), 400);
+        assertEquals(strategy.nextDelay(4, 100), 500);
+        assertEquals(strategy.nextDelay(30, 100), 500);
+    }
+
+    @Test
+    public void jitteredDelayIsBetweenHalfAndFullDelay() {
+        WaitStrategy strategy = jittered(fixed());
+        for (int i = 0; i < 100; i++) {
+            long delay = strategy.nextDelay(1, 100);
+            assertTrue(delay >= 50 && delay <= 100, "Delay " + delay);
+        }
+    }
+
+    @Test
+    public void immediateFirstTry() {
+        WaitStrategy strategy = WaitStrategy.immediateFirstTry(exponential(2, 1000));
+        assertEquals(strategy.nextDelay(1, 100), 0);
+        assertEquals(strategy.nextDelay(2, 100), 100);
+        assertEquals(strategy.nextDelay(3, 100), 200);
+    }
+
+    @Test
+    public void strategyByName() {
+        assertEquals(getStrategy("Fixed").nextDelay(5, 100), 100);
+        assertEquals(getStrategy("backoff").nextDelay(2, 100), 200);
+        assertEquals(getStrategy("immediate").nextDelay(1, 100), 0);
+    }
+
+    @Test(expectedExceptions = RuntimeException.class)
+    public void unknownStrategy() {
+        getStrategy("sometimes");
+    }
+}
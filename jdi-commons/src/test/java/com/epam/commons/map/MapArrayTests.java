@@ -0,0 +1,102 @@
+package com.epam.commons.map;
+
+import com.epam.commons.pairs.Pair;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.testng.Assert.*;
+
+public class MapArrayTests {
+
+    private static MapArray<String, Integer> map() {
+        return new MapArray<>(new Object[][]{{"one", 1}, {"two", 2}, {"three", 3}});
+    }
+
+    @Test
+    public void keepsInsertionOrder() {
+        MapArray<String, Integer> map = map();
+        assertEquals(new ArrayList<>(map.keys()), asList("one", "two", "three"));
+        assertEquals(map.key(1), "two");
+        assertEquals(map.get(-1).key, "three");
+    }
+
+    @Test
+    public void addKeepsFirstValueOfKey() {
+        MapArray<String, Integer> map = map();
+        assertFalse(map.add("two", 22));
+        assertEquals(map.get("two"), (Integer) 2);
+        assertEquals(map.size(), 3);
+        assertNull(map.get("four"));
+    }
+
+    @Test
+    public void addPairAllowsDuplicates() {
+        MapArray<String, Integer> map = map();
+        map.add(new Pair<>("one", 11));
+        assertEquals(map.size(), 4);
+        assertEquals(map.get("one"), (Integer) 1);
+        map.removeByKey("one");
+        assertEquals(map.get("one"), (Integer) 11);
+        assertEquals(map.size(), 3);
+    }
+
+    @Test
+    public void updateMovesKeyToEnd() {
+        MapArray<String, Integer> map = map().update("one", 10);
+        assertEquals(new ArrayList<>(map.keys()), asList("two", "three", "one"));
+        assertEquals(map.get("one"), (Integer) 10);
+        map.update("two", value -> value * 2);
+        assertEquals(map.get("two"), (Integer) 4);
+        assertEquals(map.key(2), "two");
+    }
+
+    @Test
+    public void addFirstAndAddOrReplace() {
+        MapArray<String, Integer> map = map();
+        assertTrue(map.addFirst("zero", 0));
+        assertFalse(map.addFirst("one", 100));
+        assertEquals(map.key(0), "zero");
+        map.addOrReplace("zero", 5);
+        assertEquals(map.get("zero"), (Integer) 5);
+        assertEquals(map.size(), 4);
+    }
+
+    @Test
+    public void indexFollowsRemoval() {
+        MapArray<String, Integer> map = map();
+        map.removeAllValues(2);
+        assertNull(map.get("two"));
+        assertEquals(map.get("three"), (Integer) 3);
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get("one"));
+        assertTrue(map.add("one", 1));
+    }
+
+    @Test
+    public void iteratorIsSnapshot() {
+        MapArray<String, Integer> map = map();
+        List<String> keys = new ArrayList<>();
+        for (Pair<String, Integer> pair : map) {
+            keys.add(pair.key);
+            map.add(pair.key + "+", pair.value);
+        }
+        assertEquals(keys, asList("one", "two", "three"));
+        assertEquals(map.size(), 6);
+        assertEquals(map.get("two+"), (Integer) 2);
+    }
+
+    @Test
+    public void copyIsIndependent() {
+        MapArray<String, Integer> map = map();
+        MapArray<String, Integer> copy = map.copy();
+        copy.update("one", 100);
+        copy.removeByKey("two");
+        assertEquals(map.get("one"), (Integer) 1);
+        assertEquals(map.get("two"), (Integer) 2);
+        assertEquals(copy.get("one"), (Integer) 100);
+    }
+}
@@ -49,7 +49,7 @@ public class AnnotationsUtil {
         return Functions.NONE;
     }
 
-    private static String splitCamelCase(String camel) {
+    public static String splitCamelCase(String camel) {
         String result = (camel.charAt(0) + "").toUpperCase();
         for (int i = 1; i < camel.length() - 1; i++)
             result += ((isCapital(camel.charAt(i)) && !isCapital(camel.charAt(i - 1))) ? " " : "") + camel.charAt(i);
@@ -38,6 +38,12 @@ public interface IDriver<T> {
 
     T getDriver(String name);
 
+    /**
+     * Quit drivers started in all threads (called after test run; does nothing if not implemented)
+     */
+    default void quitAllDrivers() {
+    }
+
     void highlight(IElement element);
 
     void highlight(IElement element, HighlightSettings highlightSettings);
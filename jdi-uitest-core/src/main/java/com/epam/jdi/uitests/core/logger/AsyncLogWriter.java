@@ -0,0 +1,61 @@
+package com.epam.jdi.uitests.core.logger;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Ring buffer of log events with one background writer.
+ * Writer keeps events order; test thread waits only if buffer is full
+ */
+class AsyncLogWriter {
+    private static BlockingQueue<Runnable> events;
+
+    private AsyncLogWriter() {
+    }
+
+    static void write(Runnable event, int bufferSize) {
+        try {
+            events(bufferSize).put(event);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            event.run();
+        }
+    }
+
+    static void flush() {
+        BlockingQueue<Runnable> queue;
+        synchronized (AsyncLogWriter.class) {
+            queue = events;
+        }
+        if (queue == null) return;
+        CountDownLatch written = new CountDownLatch(1);
+        try {
+            queue.put(written::countDown);
+            written.await(30, SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static synchronized BlockingQueue<Runnable> events(int bufferSize) {
+        if (events != null)
+            return events;
+        BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(bufferSize);
+        Thread writer = new Thread(() -> {
+            while (true)
+                try {
+                    queue.take().run();
+                } catch (InterruptedException ex) {
+                    return;
+                } catch (Throwable ignore) { }
+        }, "JDI Log Writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(AsyncLogWriter::flush));
+        events = queue;
+        return events;
+    }
+}
@@ -1,16 +1,35 @@
 package com.epam.jdi.uitests.core.logger;
 
+import org.apache.log4j.Category;
+import org.apache.log4j.Level;
+import org.apache.log4j.LogManager;
+import org.apache.log4j.spi.LocationInfo;
+import org.apache.log4j.spi.LoggingEvent;
 import org.slf4j.Logger;
 import org.slf4j.Marker;
+import org.slf4j.helpers.FormattingTuple;
 
 import java.util.function.Function;
+import java.util.function.Supplier;
 
+import static org.apache.log4j.Level.*;
 import static org.slf4j.LoggerFactory.getLogger;
+import static org.slf4j.helpers.MessageFormatter.arrayFormat;
 
 /**
  * Created by Roman_Iovlev on 1/25/2016.
+ * Pattern is applied only for enabled levels.
+ * In async mode message, time and thread (and location if asyncLocationInfo is set) are captured in test thread;
+ * background writer only passes ready event to appenders, test thread doesn't wait for them
  */
 public class JDILogger implements Logger {
+    public static boolean async = false;
+    public static int asyncBufferSize = 8192;
+    /**
+     * Take caller location (%L, %F, %M of layout) in async mode. It walks stack of test thread on every message,
+     * so it is off by default and location is written as '?'
+     */
+    public static boolean asyncLocationInfo = false;
 
     public JDILogger() {
         logger = getLogger("JDI Logger");
@@ -28,35 +47,103 @@ public class JDILogger implements Logger {
 
     private String name;
     private Logger logger;
+    private Category appenders;
     private Function<String, String> pattern = s -> s;
 
+    /**
+     * Waits until all messages logged in async mode are written
+     */
+    public static void flush() {
+        AsyncLogWriter.flush();
+    }
+
     public String getName() {
         return name;
     }
 
+    private void write(Level level, Runnable event, String message, Object... args) {
+        if (!async) {
+            event.run();
+            return;
+        }
+        LoggingEvent loggingEvent = loggingEvent(level, message, args);
+        AsyncLogWriter.write(() -> appenders().callAppenders(loggingEvent), asyncBufferSize);
+    }
+
+    private LoggingEvent loggingEvent(Level level, String message, Object... args) {
+        LoggingEvent event = new AsyncEvent(appenders(), level, arrayFormat(message, args), asyncLocationInfo);
+        // values computed lazily by log4j must be taken in caller thread
+        event.getThreadName();
+        event.getNDC();
+        event.getMDCCopy();
+        return event;
+    }
+
+    /**
+     * Event with location taken in caller thread or unknown location ('?'), never computed by writer thread
+     */
+    private static class AsyncEvent extends LoggingEvent {
+        private final LocationInfo location;
+
+        AsyncEvent(Category logger, Level level, FormattingTuple message, boolean withLocation) {
+            super(JDILogger.class.getName(), logger, level, message.getMessage(), message.getThrowable());
+            location = withLocation ? super.getLocationInformation() : new LocationInfo(null, null);
+        }
+
+        @Override
+        public LocationInfo getLocationInformation() {
+            return location;
+        }
+    }
+
+    private Category appenders() {
+        if (appenders == null)
+            appenders = LogManager.getLogger(name);
+        return appenders;
+    }
+
     public boolean isTraceEnabled() {
         return logger.isTraceEnabled();
     }
 
-    public void trace(String s) {
-        logger.trace(pattern.apply(s));
+    public void trace(Supplier<String> message) {
+        if (logger.isTraceEnabled())
+            trace(message.get());
+    }
 
+    public void trace(String s) {
+        if (logger.isTraceEnabled()) {
+            String message = pattern.apply(s);
+            write(TRACE, () -> logger.trace(message), message);
+        }
     }
 
     public void trace(String s, Object o) {
-        logger.trace(pattern.apply(s), o);
+        if (logger.isTraceEnabled()) {
+            String message = pattern.apply(s);
+            write(TRACE, () -> logger.trace(message, o), message, o);
+        }
     }
 
     public void trace(String s, Object o, Object o1) {
-        logger.trace(pattern.apply(s), o, o1);
+        if (logger.isTraceEnabled()) {
+            String message = pattern.apply(s);
+            write(TRACE, () -> logger.trace(message, o, o1), message, o, o1);
+        }
     }
 
     public void trace(String s, Object... objects) {
-        logger.trace(pattern.apply(s), objects);
+        if (logger.isTraceEnabled()) {
+            String message = pattern.apply(s);
+            write(TRACE, () -> logger.trace(message, objects), message, objects);
+        }
     }
 
     public void trace(String s, Throwable throwable) {
-        logger.trace(pattern.apply(s), throwable);
+        if (logger.isTraceEnabled()) {
+            String message = pattern.apply(s);
+            write(TRACE, () -> logger.trace(message, throwable), message, throwable);
+        }
     }
 
     public boolean isTraceEnabled(Marker marker) {
@@ -64,53 +151,82 @@ public class JDILogger implements Logger {
     }
 
     public void trace(Marker marker, String s) {
-        logger.trace(marker, pattern.apply(s));
-
+        if (logger.isTraceEnabled(marker)) {
+            String message = pattern.apply(s);
+            write(TRACE, () -> logger.trace(marker, message), message);
+        }
     }
 
     public void trace(Marker marker, String s, Object o) {
-        logger.trace(marker, pattern.apply(s), o);
-
+        if (logger.isTraceEnabled(marker)) {
+            String message = pattern.apply(s);
+            write(TRACE, () -> logger.trace(marker, message, o), message, o);
+        }
     }
 
     public void trace(Marker marker, String s, Object o, Object o1) {
-        logger.trace(marker, pattern.apply(s), o ,o1);
-
+        if (logger.isTraceEnabled(marker)) {
+            String message = pattern.apply(s);
+            write(TRACE, () -> logger.trace(marker, message, o, o1), message, o, o1);
+        }
     }
 
     public void trace(Marker marker, String s, Object... objects) {
-        logger.trace(marker, pattern.apply(s), objects);
-
+        if (logger.isTraceEnabled(marker)) {
+            String message = pattern.apply(s);
+            write(TRACE, () -> logger.trace(marker, message, objects), message, objects);
+        }
     }
 
     public void trace(Marker marker, String s, Throwable throwable) {
-        logger.trace(marker, pattern.apply(s), throwable);
+        if (logger.isTraceEnabled(marker)) {
+            String message = pattern.apply(s);
+            write(TRACE, () -> logger.trace(marker, message, throwable), message, throwable);
+        }
     }
 
     public boolean isDebugEnabled() {
         return logger.isDebugEnabled();
     }
 
+    public void debug(Supplier<String> message) {
+        if (logger.isDebugEnabled())
+            debug(message.get());
+    }
+
     public void debug(String s) {
-        logger.debug(pattern.apply(s));
+        if (logger.isDebugEnabled()) {
+            String message = pattern.apply(s);
+            write(DEBUG, () -> logger.debug(message), message);
+        }
     }
 
     public void debug(String s, Object o) {
-        logger.debug(pattern.apply(s), o);
+        if (logger.isDebugEnabled()) {
+            String message = pattern.apply(s);
+            write(DEBUG, () -> logger.debug(message, o), message, o);
+        }
     }
 
     public void debug(String s, Object o, Object o1) {
-        logger.debug(pattern.apply(s), o, o1);
-
+        if (logger.isDebugEnabled()) {
+            String message = pattern.apply(s);
+            write(DEBUG, () -> logger.debug(message, o, o1), message, o, o1);
+        }
     }
 
     public void debug(String s, Object... objects) {
-        logger.debug(pattern.apply(s), objects);
-
+        if (logger.isDebugEnabled()) {
+            String message = pattern.apply(s);
+            write(DEBUG, () -> logger.debug(message, objects), message, objects);
+        }
     }
 
     public void debug(String s, Throwable throwable) {
-        logger.debug(pattern.apply(s), throwable);
+        if (logger.isDebugEnabled()) {
+            String message = pattern.apply(s);
+            write(DEBUG, () -> logger.debug(message, throwable), message, throwable);
+        }
     }
 
     public boolean isDebugEnabled(Marker marker) {
@@ -118,53 +234,82 @@ public class JDILogger implements Logger {
     }
 
     public void debug(Marker marker, String s) {
-        logger.debug(marker, pattern.apply(s));
-
+        if (logger.isDebugEnabled(marker)) {
+            String message = pattern.apply(s);
+            write(DEBUG, () -> logger.debug(marker, message), message);
+        }
     }
 
     public void debug(Marker marker, String s, Object o) {
-        logger.debug(marker, pattern.apply(s), o);
-
+        if (logger.isDebugEnabled(marker)) {
+            String message = pattern.apply(s);
+            write(DEBUG, () -> logger.debug(marker, message, o), message, o);
+        }
     }
 
     public void debug(Marker marker, String s, Object o, Object o1) {
-        logger.debug(marker, pattern.apply(s), o, o1);
-
+        if (logger.isDebugEnabled(marker)) {
+            String message = pattern.apply(s);
+            write(DEBUG, () -> logger.debug(marker, message, o, o1), message, o, o1);
+        }
     }
 
     public void debug(Marker marker, String s, Object... objects) {
-        logger.debug(marker, pattern.apply(s), objects);
-
+        if (logger.isDebugEnabled(marker)) {
+            String message = pattern.apply(s);
+            write(DEBUG, () -> logger.debug(marker, message, objects), message, objects);
+        }
     }
 
     public void debug(Marker marker, String s, Throwable throwable) {
-        logger.debug(marker, pattern.apply(s), throwable);
+        if (logger.isDebugEnabled(marker)) {
+            String message = pattern.apply(s);
+            write(DEBUG, () -> logger.debug(marker, message, throwable), message, throwable);
+        }
     }
 
     public boolean isInfoEnabled() {
         return logger.isInfoEnabled();
     }
 
+    public void info(Supplier<String> message) {
+        if (logger.isInfoEnabled())
+            info(message.get());
+    }
+
     public void info(String s) {
-        logger.info(pattern.apply(s));
+        if (logger.isInfoEnabled()) {
+            String message = pattern.apply(s);
+            write(INFO, () -> logger.info(message), message);
+        }
     }
 
     public void info(String s, Object o) {
-        logger.info(pattern.apply(s), o);
+        if (logger.isInfoEnabled()) {
+            String message = pattern.apply(s);
+            write(INFO, () -> logger.info(message, o), message, o);
+        }
     }
 
     public void info(String s, Object o, Object o1) {
-        logger.info(pattern.apply(s), o, o1);
-
+        if (logger.isInfoEnabled()) {
+            String message = pattern.apply(s);
+            write(INFO, () -> logger.info(message, o, o1), message, o, o1);
+        }
     }
 
     public void info(String s, Object... objects) {
-        logger.info(pattern.apply(s), objects);
-
+        if (logger.isInfoEnabled()) {
+            String message = pattern.apply(s);
+            write(INFO, () -> logger.info(message, objects), message, objects);
+        }
     }
 
     public void info(String s, Throwable throwable) {
-        logger.info(pattern.apply(s), throwable);
+        if (logger.isInfoEnabled()) {
+            String message = pattern.apply(s);
+            write(INFO, () -> logger.info(message, throwable), message, throwable);
+        }
     }
 
     public boolean isInfoEnabled(Marker marker) {
@@ -172,53 +317,82 @@ public class JDILogger implements Logger {
     }
 
     public void info(Marker marker, String s) {
-        logger.info(marker, pattern.apply(s));
-
+        if (logger.isInfoEnabled(marker)) {
+            String message = pattern.apply(s);
+            write(INFO, () -> logger.info(marker, message), message);
+        }
     }
 
     public void info(Marker marker, String s, Object o) {
-        logger.info(marker, pattern.apply(s), o);
-
+        if (logger.isInfoEnabled(marker)) {
+            String message = pattern.apply(s);
+            write(INFO, () -> logger.info(marker, message, o), message, o);
+        }
     }
 
     public void info(Marker marker, String s, Object o, Object o1) {
-        logger.info(marker, pattern.apply(s), o, o1);
-
+        if (logger.isInfoEnabled(marker)) {
+            String message = pattern.apply(s);
+            write(INFO, () -> logger.info(marker, message, o, o1), message, o, o1);
+        }
     }
 
     public void info(Marker marker, String s, Object... objects) {
-        logger.info(marker, pattern.apply(s), objects);
-
+        if (logger.isInfoEnabled(marker)) {
+            String message = pattern.apply(s);
+            write(INFO, () -> logger.info(marker, message, objects), message, objects);
+        }
     }
 
     public void info(Marker marker, String s, Throwable throwable) {
-        logger.info(marker, pattern.apply(s), throwable);
+        if (logger.isInfoEnabled(marker)) {
+            String message = pattern.apply(s);
+            write(INFO, () -> logger.info(marker, message, throwable), message, throwable);
+        }
     }
 
     public boolean isWarnEnabled() {
         return logger.isWarnEnabled();
     }
 
+    public void warn(Supplier<String> message) {
+        if (logger.isWarnEnabled())
+            warn(message.get());
+    }
+
     public void warn(String s) {
-        logger.warn(pattern.apply(s));
+        if (logger.isWarnEnabled()) {
+            String message = pattern.apply(s);
+            write(WARN, () -> logger.warn(message), message);
+        }
     }
 
     public void warn(String s, Object o) {
-        logger.warn(pattern.apply(s), o);
+        if (logger.isWarnEnabled()) {
+            String message = pattern.apply(s);
+            write(WARN, () -> logger.warn(message, o), message, o);
+        }
     }
 
     public void warn(String s, Object o, Object o1) {
-        logger.warn(pattern.apply(s), o, o1);
-
+        if (logger.isWarnEnabled()) {
+            String message = pattern.apply(s);
+            write(WARN, () -> logger.warn(message, o, o1), message, o, o1);
+        }
     }
 
     public void warn(String s, Object... objects) {
-        logger.warn(pattern.apply(s), objects);
-
+        if (logger.isWarnEnabled()) {
+            String message = pattern.apply(s);
+            write(WARN, () -> logger.warn(message, objects), message, objects);
+        }
     }
 
     public void warn(String s, Throwable throwable) {
-        logger.warn(pattern.apply(s), throwable);
+        if (logger.isWarnEnabled()) {
+            String message = pattern.apply(s);
+            write(WARN, () -> logger.warn(message, throwable), message, throwable);
+        }
     }
 
     public boolean isWarnEnabled(Marker marker) {
@@ -226,53 +400,82 @@ public class JDILogger implements Logger {
     }
 
     public void warn(Marker marker, String s) {
-        logger.warn(marker, pattern.apply(s));
-
+        if (logger.isWarnEnabled(marker)) {
+            String message = pattern.apply(s);
+            write(WARN, () -> logger.warn(marker, message), message);
+        }
     }
 
     public void warn(Marker marker, String s, Object o) {
-        logger.warn(marker, pattern.apply(s), o);
-
+        if (logger.isWarnEnabled(marker)) {
+            String message = pattern.apply(s);
+            write(WARN, () -> logger.warn(marker, message, o), message, o);
+        }
     }
 
     public void warn(Marker marker, String s, Object o, Object o1) {
-        logger.warn(marker, pattern.apply(s), o, o1);
-
+        if (logger.isWarnEnabled(marker)) {
+            String message = pattern.apply(s);
+            write(WARN, () -> logger.warn(marker, message, o, o1), message, o, o1);
+        }
     }
 
     public void warn(Marker marker, String s, Object... objects) {
-        logger.warn(marker, pattern.apply(s), objects);
-
+        if (logger.isWarnEnabled(marker)) {
+            String message = pattern.apply(s);
+            write(WARN, () -> logger.warn(marker, message, objects), message, objects);
+        }
     }
 
     public void warn(Marker marker, String s, Throwable throwable) {
-        logger.warn(marker, pattern.apply(s), throwable);
+        if (logger.isWarnEnabled(marker)) {
+            String message = pattern.apply(s);
+            write(WARN, () -> logger.warn(marker, message, throwable), message, throwable);
+        }
     }
 
     public boolean isErrorEnabled() {
         return logger.isErrorEnabled();
     }
 
+    public void error(Supplier<String> message) {
+        if (logger.isErrorEnabled())
+            error(message.get());
+    }
+
     public void error(String s) {
-        logger.error(pattern.apply(s));
+        if (logger.isErrorEnabled()) {
+            String message = pattern.apply(s);
+            write(ERROR, () -> logger.error(message), message);
+        }
     }
 
     public void error(String s, Object o) {
-        logger.error(pattern.apply(s), o);
+        if (logger.isErrorEnabled()) {
+            String message = pattern.apply(s);
+            write(ERROR, () -> logger.error(message, o), message, o);
+        }
     }
 
     public void error(String s, Object o, Object o1) {
-        logger.error(pattern.apply(s), o, o1);
-
+        if (logger.isErrorEnabled()) {
+            String message = pattern.apply(s);
+            write(ERROR, () -> logger.error(message, o, o1), message, o, o1);
+        }
     }
 
     public void error(String s, Object... objects) {
-        logger.error(pattern.apply(s), objects);
-
+        if (logger.isErrorEnabled()) {
+            String message = pattern.apply(s);
+            write(ERROR, () -> logger.error(message, objects), message, objects);
+        }
     }
 
     public void error(String s, Throwable throwable) {
-        logger.error(pattern.apply(s), throwable);
+        if (logger.isErrorEnabled()) {
+            String message = pattern.apply(s);
+            write(ERROR, () -> logger.error(message, throwable), message, throwable);
+        }
     }
 
     public boolean isErrorEnabled(Marker marker) {
@@ -280,26 +483,37 @@ public class JDILogger implements Logger {
     }
 
     public void error(Marker marker, String s) {
-        logger.error(marker, pattern.apply(s));
-
+        if (logger.isErrorEnabled(marker)) {
+            String message = pattern.apply(s);
+            write(ERROR, () -> logger.error(marker, message), message);
+        }
     }
 
     public void error(Marker marker, String s, Object o) {
-        logger.error(marker, pattern.apply(s), o);
-
+        if (logger.isErrorEnabled(marker)) {
+            String message = pattern.apply(s);
+            write(ERROR, () -> logger.error(marker, message, o), message, o);
+        }
     }
 
     public void error(Marker marker, String s, Object o, Object o1) {
-        logger.error(marker, pattern.apply(s), o, o1);
-
+        if (logger.isErrorEnabled(marker)) {
+            String message = pattern.apply(s);
+            write(ERROR, () -> logger.error(marker, message, o, o1), message, o, o1);
+        }
     }
 
     public void error(Marker marker, String s, Object... objects) {
-        logger.error(marker, pattern.apply(s), objects);
-
+        if (logger.isErrorEnabled(marker)) {
+            String message = pattern.apply(s);
+            write(ERROR, () -> logger.error(marker, message, objects), message, objects);
+        }
     }
 
     public void error(Marker marker, String s, Throwable throwable) {
-        logger.error(marker, pattern.apply(s), throwable);
+        if (logger.isErrorEnabled(marker)) {
+            String message = pattern.apply(s);
+            write(ERROR, () -> logger.error(marker, message, throwable), message, throwable);
+        }
     }
 }
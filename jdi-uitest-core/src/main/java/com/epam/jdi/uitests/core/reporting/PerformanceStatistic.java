@@ -17,17 +17,36 @@
  */
 package com.epam.jdi.uitests.core.reporting;
 
-import com.epam.commons.map.MapArray;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
-import java.util.List;
-
-import static com.epam.commons.CalculationUtils.average;
+import static com.epam.jdi.uitests.core.settings.JDISettings.logger;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
 
 /**
  * Created by Roman_Iovlev on 7/26/2015.
  */
 public class PerformanceStatistic {
-    private static MapArray<ActionsType, List<Long>> statistic = new MapArray<>();
+    /**
+     * File written by exportStatistic() after tests, e.g. "target/performance.csv" (null or empty to skip export)
+     */
+    public static String exportPath = null;
+    public static int maxActions = 1000;
+    private static final String OTHER = "Other";
+    private static final Map<ActionsType, LatencyHistogram> totals = new EnumMap<>(ActionsType.class);
+    private static final Map<StatisticKey, LatencyHistogram> statistic = new ConcurrentHashMap<>();
+
+    static {
+        for (ActionsType actionType : ActionsType.values())
+            totals.put(actionType, new LatencyHistogram());
+    }
 
     private PerformanceStatistic() {
     }
@@ -37,12 +56,146 @@ public class PerformanceStatistic {
     }
 
     public static void addStatistic(ActionsType actionType, long time) {
-        if (statistic.keys().contains(actionType))
-            statistic.get(actionType).add(time);
+        totals.get(actionType).add(time);
+    }
+
+    public static void addStatistic(String elementType, String actionName, long time) {
+        addStatistic(ActionsType.JDI_ACTION, elementType, actionName, time);
+    }
+
+    /**
+     * @param actionType  Specify type of action
+     * @param elementType Specify element class name
+     * @param actionName  Specify action name; values in quotes are not counted as different actions
+     * @param time        Specify action time in ms
+     */
+    public static void addStatistic(ActionsType actionType, String elementType, String actionName, long time) {
+        addStatistic(actionType, time);
+        histogram(new StatisticKey(actionType, elementType, normalize(actionName))).add(time);
+    }
+
+    public static LatencyHistogram getStatistic(ActionsType actionType) {
+        return totals.get(actionType);
+    }
+
+    public static LatencyHistogram getStatistic(String elementType, String actionName) {
+        return statistic.get(new StatisticKey(ActionsType.JDI_ACTION, elementType, normalize(actionName)));
     }
 
     public static String printStatistic() {
-        return "Average Actions Time: " + statistic.toMapArray(value -> Double.toString(average(value)));
+        return "Actions Time: " + totals.entrySet().stream()
+                .map(e -> e.getKey() + ": " + e.getValue()).collect(joining("; "));
+    }
+
+    public static String toCsv() {
+        return "actionType,element,action,count,avg,p50,p90,p99,max\n" +
+                rows(key -> format("%s,%s,%s", key.actionType, csv(key.elementType), csv(key.actionName)),
+                        (row, histogram) -> format("%s,%s,%.1f,%s,%s,%s,%s\n", row, histogram.count(), histogram.average(),
+                                histogram.percentile(50), histogram.percentile(90), histogram.percentile(99), histogram.max()));
+    }
+
+    public static String toJson() {
+        String rows = rows(key -> format("{\"actionType\":\"%s\",\"element\":%s,\"action\":%s", key.actionType, json(key.elementType), json(key.actionName)),
+                (row, histogram) -> format("%s,\"count\":%s,\"avg\":%.1f,\"p50\":%s,\"p90\":%s,\"p99\":%s,\"max\":%s},\n", row, histogram.count(), histogram.average(),
+                        histogram.percentile(50), histogram.percentile(90), histogram.percentile(99), histogram.max()));
+        return "[\n" + (rows.isEmpty() ? "" : rows.substring(0, rows.length() - 2) + "\n") + "]";
+    }
+
+    public static void exportStatistic() {
+        if (exportPath != null && !exportPath.equals(""))
+            exportStatistic(exportPath);
+    }
+
+    /**
+     * @param path Specify file to write statistic; json if file has .json extension, csv otherwise
+     */
+    public static void exportStatistic(String path) {
+        try {
+            Path file = Paths.get(path);
+            if (file.toAbsolutePath().getParent() != null)
+                Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.write(file, (path.endsWith(".json") ? toJson() : toCsv()).getBytes(UTF_8));
+        } catch (IOException ex) {
+            if (logger != null)
+                logger.error(format("Failed to export performance statistic to %s: %s", path, ex.getMessage()));
+        }
     }
 
-}
\ No newline at end of file
+    public static void clear() {
+        totals.values().forEach(LatencyHistogram::clear);
+        statistic.clear();
+    }
+
+    private static LatencyHistogram histogram(StatisticKey key) {
+        LatencyHistogram histogram = statistic.get(key);
+        if (histogram != null)
+            return histogram;
+        if (statistic.size() >= maxActions)
+            key = new StatisticKey(key.actionType, OTHER, OTHER);
+        return statistic.computeIfAbsent(key, k -> new LatencyHistogram());
+    }
+
+    private static String rows(Function<StatisticKey, String> row, RowFormat format) {
+        StringBuilder result = new StringBuilder();
+        statistic.entrySet().stream()
+                .sorted((e1, e2) -> Long.compare(e2.getValue().percentile(99), e1.getValue().percentile(99)))
+                .forEach(e -> result.append(format.apply(row.apply(e.getKey()), e.getValue())));
+        return result.toString();
+    }
+
+    private static String normalize(String actionName) {
+        return actionName == null ? "" : actionName.replaceAll("'[^']*'", "'?'");
+    }
+
+    private static String csv(String value) {
+        return value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")
+                ? "\"" + value.replace("\"", "\"\"") + "\""
+                : value;
+    }
+
+    private static String json(String value) {
+        StringBuilder result = new StringBuilder("\"");
+        for (char c : value.toCharArray())
+            switch (c) {
+                case '"': result.append("\\\""); break;
+                case '\\': result.append("\\\\"); break;
+                case '\n': result.append("\\n"); break;
+                case '\r': result.append("\\r"); break;
+                case '\t': result.append("\\t"); break;
+                default:
+                    if (c < ' ') result.append(format("\\u%04x", (int) c));
+                    else result.append(c);
+            }
+        return result.append("\"").toString();
+    }
+
+    @FunctionalInterface
+    private interface RowFormat {
+        String apply(String row, LatencyHistogram histogram);
+    }
+
+    private static class StatisticKey {
+        private final ActionsType actionType;
+        private final String elementType;
+        private final String actionName;
+
+        private StatisticKey(ActionsType actionType, String elementType, String actionName) {
+            this.actionType = actionType;
+            this.elementType = elementType == null ? "" : elementType;
+            this.actionName = actionName;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof StatisticKey)) return false;
+            StatisticKey key = (StatisticKey) o;
+            return actionType == key.actionType && elementType.equals(key.elementType) && actionName.equals(key.actionName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(actionType, elementType, actionName);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.epam.jdi.uitests.core.reporting;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.epam.jdi.uitests.core.settings.JDISettings.logger;
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Encodes and writes screenshots, in background if async is set.
+ * In async mode test thread only takes screenshot from driver; decoding, encoding and writing are done by workers,
+ * so returned file appears later (call flush to wait for it).
+ * If all workers are busy and queue is full or pipeline is flushing screenshot is saved in test thread
+ */
+public class ScreenshotPipeline {
+    public String format = "png";
+    public float quality = 0.9f;
+    public boolean async = false;
+    public int threads = 1;
+    public int queueSize = 16;
+    public long flushTimeoutMs = 60000;
+    private final Map<String, AtomicInteger> names = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor executor;
+    private boolean hookAdded;
+
+    /**
+     * @param base64Screen Specify screenshot in base64 as it returned by driver
+     * @param fileName     Specify file path without extension
+     * @return path of file where screenshot will be written
+     */
+    public String save(String base64Screen, String fileName) {
+        return save(() -> Base64.getMimeDecoder().decode(base64Screen), fileName);
+    }
+
+    /**
+     * @param pngScreen Specify screenshot in png format
+     * @param fileName  Specify file path without extension
+     * @return path of file where screenshot will be written
+     */
+    public String save(byte[] pngScreen, String fileName) {
+        return save(() -> pngScreen, fileName);
+    }
+
+    private String save(Supplier<byte[]> pngScreen, String fileName) {
+        Path path = Paths.get(uniqueName(fileName) + "." + format);
+        Runnable write = () -> write(pngScreen, path);
+        if (async)
+            executor().execute(write);
+        else write.run();
+        return path.toString();
+    }
+
+    /**
+     * Waits until all screenshots in queue are written
+     */
+    public void flush() {
+        ThreadPoolExecutor flushed;
+        synchronized (this) {
+            flushed = executor;
+            executor = null;
+        }
+        if (flushed == null) return;
+        flushed.shutdown();
+        try {
+            if (!flushed.awaitTermination(flushTimeoutMs, MILLISECONDS) && logger != null)
+                logger.error(format("Screenshots are not written in %s ms", flushTimeoutMs));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String uniqueName(String fileName) {
+        int num = names.computeIfAbsent(fileName, name -> new AtomicInteger()).getAndIncrement();
+        return num == 0 ? fileName : fileName + "_" + num;
+    }
+
+    private synchronized ThreadPoolExecutor executor() {
+        if (executor != null)
+            return executor;
+        if (!hookAdded) {
+            Runtime.getRuntime().addShutdownHook(new Thread(this::flush));
+            hookAdded = true;
+        }
+        AtomicInteger threadNum = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0, MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "JDI Screenshots " + threadNum.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> runnable.run());
+        return executor;
+    }
+
+    private void write(Supplier<byte[]> pngScreen, Path path) {
+        try {
+            byte[] screen = encode(pngScreen.get());
+            if (path.getParent() != null)
+                Files.createDirectories(path.getParent());
+            Files.write(path, screen);
+        } catch (Exception ex) {
+            if (logger != null)
+                logger.error(format("Failed to write screenshot %s: %s", path, ex.getMessage()));
+        }
+    }
+
+    private byte[] encode(byte[] png) throws IOException {
+        if (format.equalsIgnoreCase("png"))
+            return png;
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format);
+        if (image == null || !writers.hasNext())
+            return png;
+        BufferedImage rgbImage = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgbImage.createGraphics();
+        graphics.drawImage(image, 0, 0, Color.WHITE, null);
+        graphics.dispose();
+        ImageWriter writer = writers.next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        if (param.canWriteCompressed()) {
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+        }
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(result)) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(rgbImage, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return result.toByteArray();
+    }
+}
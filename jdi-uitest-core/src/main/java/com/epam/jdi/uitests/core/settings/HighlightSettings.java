@@ -21,9 +21,22 @@ package com.epam.jdi.uitests.core.settings;
  * Created by Roman_Iovlev on 6/9/2015.
  */
 public class HighlightSettings {
+    /**
+     * Draws overlay over element (arguments: element, frame color, background color, timeout in ms)
+     * and removes it after timeout, so element style is not changed
+     */
+    public static final String HIGHLIGHT_SCRIPT =
+            "var rect = arguments[0].getBoundingClientRect(), overlay = document.createElement('div');\n" +
+            "overlay.style.cssText = 'position: fixed; z-index: 2147483647; pointer-events: none; box-sizing: border-box;'\n" +
+            "  + ' left: ' + rect.left + 'px; top: ' + rect.top + 'px;'\n" +
+            "  + ' width: ' + rect.width + 'px; height: ' + rect.height + 'px; opacity: 0.6;'\n" +
+            "  + ' border: 3px solid ' + arguments[1] + '; background-color: ' + arguments[2] + ';';\n" +
+            "document.body.appendChild(overlay);\n" +
+            "setTimeout(function() { if (overlay.parentNode) overlay.parentNode.removeChild(overlay); }, arguments[3]);";
     private String bgColor = "yellow";
     private String frameColor = "red";
     private int timeoutInSec = 2;
+    private boolean waitHighlight = false;
 
     public HighlightSettings() {
     }
@@ -60,4 +73,17 @@ public class HighlightSettings {
         this.timeoutInSec = timeoutInSec;
         return this;
     }
+
+    public boolean isWaitHighlight() {
+        return waitHighlight;
+    }
+
+    /**
+     * @param waitHighlight Specify true to stop test while element is highlighted (by default highlight
+     *                      is removed by browser and test goes on)
+     */
+    public HighlightSettings setWaitHighlight(boolean waitHighlight) {
+        this.waitHighlight = waitHighlight;
+        return this;
+    }
 }
\ No newline at end of file
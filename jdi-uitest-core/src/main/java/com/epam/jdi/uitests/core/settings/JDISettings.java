@@ -18,14 +18,19 @@
 package com.epam.jdi.uitests.core.settings;
 
 import com.epam.jdi.uitests.core.interfaces.settings.IDriver;
+import com.epam.jdi.uitests.core.logger.JDILogger;
 import com.epam.jdi.uitests.core.logger.LogLevels;
+import com.epam.jdi.uitests.core.reporting.PerformanceStatistic;
+import com.epam.jdi.uitests.core.reporting.ScreenshotPipeline;
 import com.epam.web.matcher.base.IAsserter;
 import org.slf4j.Logger;
 
 import java.io.IOException;
+import java.util.function.Supplier;
 
 import static com.epam.commons.PropertyReader.fillAction;
 import static com.epam.commons.PropertyReader.getProperties;
+import static java.lang.Float.parseFloat;
 import static java.lang.Integer.parseInt;
 
 /**
@@ -42,6 +47,7 @@ public abstract class JDISettings {
     public static String domain;
     public static boolean exceptionThrown;
     public static IDriver driverFactory;
+    public static ScreenshotPipeline screenshots = new ScreenshotPipeline();
 
     protected JDISettings() {
     }
@@ -59,6 +65,22 @@ public abstract class JDISettings {
         }
     }
 
+    public static void toLog(Supplier<String> message, LogLevels level) {
+        if (isLogEnabled(level))
+            toLog(message.get(), level);
+    }
+
+    public static boolean isLogEnabled(LogLevels level) {
+        switch (level) {
+            case DEBUG:
+                return logger.isDebugEnabled();
+            case ERROR:
+                return logger.isErrorEnabled();
+            default:
+                return logger.isInfoEnabled();
+        }
+    }
+
     public static String useDriver(String driverName) {
         return driverFactory.registerDriver(driverName);
     }
@@ -70,6 +92,15 @@ public abstract class JDISettings {
         fillAction(p -> domain = p, "domain");
         fillAction(p -> timeouts.waitElementSec = parseInt(p), "timeout.wait.element");
         fillAction(p -> timeouts.waitPageLoadSec = parseInt(p), "timeout.wait.pageLoad");
+        fillAction(p -> timeouts.setRetryMSec(parseInt(p)), "timeout.retry");
+        fillAction(timeouts::setWaitStrategy, "timeout.wait.strategy");
+        fillAction(p -> timeouts.noImplicitWait = p.equals("true") || p.equals("1"), "timeout.noImplicitWait");
+        fillAction(p -> screenshots.format = p, "screenshot.format");
+        fillAction(p -> screenshots.quality = parseFloat(p), "screenshot.quality");
+        fillAction(p -> screenshots.async = p.equals("true") || p.equals("1"), "screenshot.async");
+        fillAction(p -> PerformanceStatistic.exportPath = p, "statistic.export");
+        fillAction(p -> JDILogger.async = p.equals("true") || p.equals("1"), "log.async");
+        fillAction(p -> JDILogger.asyncLocationInfo = p.equals("true") || p.equals("1"), "log.async.location");
     }
 
     public static void initFromProperties(String propertyPath) throws IOException {
@@ -17,6 +17,9 @@
  */
 package com.epam.jdi.uitests.core.settings;
 
+import com.epam.commons.Timer;
+import com.epam.commons.WaitStrategy;
+
 /**
  * Created by 12345 on 04.07.2015.
  */
@@ -26,6 +29,10 @@ public class TimeoutSettings {
     public int waitElementSec = 20;
     public int waitPageLoadSec = 20;
     public int retryMSec = 100;
+    /**
+     * Driver implicit wait is always 0: elements are waited only by JDI timers with one deadline per action
+     */
+    public boolean noImplicitWait = false;
 
     public TimeoutSettings() {
         setCurrentTimeoutSec(waitPageLoadSec);
@@ -35,7 +42,30 @@ public class TimeoutSettings {
         currentTimeoutSec = timeoutSec;
     }
 
+    /**
+     * @return Implicit wait for drivers in seconds (0 if noImplicitWait)
+     */
+    public int implicitWaitSec() {
+        return noImplicitWait ? 0 : waitElementSec;
+    }
+
     public void dropTimeouts() {
         setCurrentTimeoutSec(waitElementSec);
     }
+
+    public void setRetryMSec(int retryMSec) {
+        this.retryMSec = retryMSec;
+        Timer.setDefaultRetryTimeout(retryMSec);
+    }
+
+    /**
+     * @param waitStrategy Specify delays between attempts for all waits (fixed by default)
+     */
+    public void setWaitStrategy(WaitStrategy waitStrategy) {
+        Timer.setDefaultWaitStrategy(waitStrategy);
+    }
+
+    public void setWaitStrategy(String waitStrategy) {
+        setWaitStrategy(WaitStrategy.getStrategy(waitStrategy));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.epam.jdi.uitests.core.reporting;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+public class LatencyHistogramTests {
+
+    @Test
+    public void emptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(histogram.count(), 0);
+        assertEquals(histogram.percentile(50), 0);
+        assertEquals(histogram.average(), 0.0);
+    }
+
+    @Test
+    public void smallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 20; i++)
+            histogram.add(i);
+        assertEquals(histogram.count(), 20);
+        assertEquals(histogram.percentile(50), 10);
+        assertEquals(histogram.percentile(100), 20);
+        assertEquals(histogram.max(), 20);
+        assertEquals(histogram.average(), 10.5);
+    }
+
+    @Test
+    public void bigValuesAreWithinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10000; i++)
+            histogram.add(i);
+        for (double percentile : new double[]{50, 90, 99}) {
+            long expected = (long) (percentile * 100);
+            long actual = histogram.percentile(percentile);
+            assertTrue(actual >= expected && actual <= expected * 1.032,
+                    "p" + percentile + ": " + actual + " instead of " + expected);
+        }
+        assertEquals(histogram.percentile(100), 10000);
+    }
+
+    @Test
+    public void valuesOutOfRangeAreLimited() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.add(-5);
+        histogram.add(Long.MAX_VALUE);
+        assertEquals(histogram.percentile(50), 0);
+        assertEquals(histogram.max(), Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void clear() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.add(100);
+        histogram.clear();
+        assertEquals(histogram.count(), 0);
+        assertEquals(histogram.max(), 0);
+        assertEquals(histogram.percentile(99), 0);
+    }
+
+    @Test
+    public void concurrentAdds() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++)
+            executor.submit(() -> {
+                for (int i = 0; i < 10000; i++)
+                    histogram.add(i % 100);
+            });
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(histogram.count(), 40000);
+        assertEquals(histogram.max(), 99);
+    }
+}
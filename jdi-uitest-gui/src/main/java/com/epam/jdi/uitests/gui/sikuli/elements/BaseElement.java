@@ -77,7 +77,7 @@ public abstract class BaseElement implements IBaseElement {
     }
 
     public void logAction(String actionName, LogLevels level) {
-        toLog(format(shortLogMessagesFormat
+        toLog(() -> format(shortLogMessagesFormat
                 ? "%s for %s"
                 : "Perform action '%s' with Element (%s)", actionName, this.toString()), level);
     }
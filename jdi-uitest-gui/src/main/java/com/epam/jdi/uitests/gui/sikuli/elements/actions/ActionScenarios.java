@@ -51,7 +51,7 @@ public class ActionScenarios {
             return true;
         });
         logger.info(actionName + " done");
-        addStatistic(timer.timePassedInMSec());
+        addStatistic(element.getClass().getSimpleName(), actionName, timer.timePassedInMSec());
     }
 
     public <TResult> TResult resultScenario(String actionName, Supplier<TResult> jAction, Function<TResult, String> logResult, LogLevels level) {
@@ -61,12 +61,11 @@ public class ActionScenarios {
                 .getResultByCondition(jAction::get, res -> true);
         if (result == null)
             throw asserter.exception("Do action %s failed. Can't got result", actionName);
-        String stringResult = (logResult == null)
-                ? result.toString()
-                : JDISettings.asserter.silent(() -> logResult.apply(result));
         Long timePassed = timer.timePassedInMSec();
-        addStatistic(timer.timePassedInMSec());
-        toLog(format("Get result '%s' in %s seconds", stringResult,
+        addStatistic(element.getClass().getSimpleName(), actionName, timePassed);
+        toLog(() -> format("Get result '%s' in %s seconds", (logResult == null)
+                        ? result.toString()
+                        : JDISettings.asserter.silent(() -> logResult.apply(result)),
                 format("%.2f", (double) timePassed / 1000)), level);
         return result;
     }
@@ -20,21 +20,26 @@ package com.epam.jdi.uitests.mobile.appium.driver;
 
 import com.epam.commons.PropertyReader;
 import com.epam.commons.TryCatchUtil;
-import com.epam.commons.map.MapArray;
 import com.epam.jdi.uitests.core.interfaces.base.IElement;
 import com.epam.jdi.uitests.core.interfaces.settings.IDriver;
 import com.epam.jdi.uitests.core.settings.HighlightSettings;
 import com.epam.jdi.uitests.mobile.WebSettings;
 import com.epam.jdi.uitests.mobile.appium.elements.base.Element;
 import io.appium.java_client.android.AndroidDriver;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.remote.DesiredCapabilities;
 import org.openqa.selenium.remote.RemoteWebDriver;
 
 import java.io.File;
 import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -53,13 +58,27 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 public class AppiumDriverFactory implements IDriver<WebDriver> {
     public Function<WebElement, Boolean> elementSearchCriteria = WebElement::isDisplayed;
     public RunTypes runType = LOCAL;
-    public String currentDriverName = "";
     public boolean isDemoMode = false;
+    /**
+     * Every thread runs its own instances of registered drivers
+     */
+    public boolean driverPerThread = false;
     public HighlightSettings highlightSettings = new HighlightSettings();
     private String driversPath = "src\\main\\resources";
     private String androidAppPath = "http://127.0.0.1:4723/wd/hub";
-    private MapArray<String, Supplier<WebDriver>> drivers = new MapArray<>();
-    private MapArray<String, WebDriver> runDrivers = new MapArray<>();
+    /**
+     * @deprecated use currentDriverName() and switchToDriver(driverName): field keeps last registered driver,
+     * value assigned to it becomes default driver for threads without own switched driver
+     */
+    @Deprecated
+    public volatile String currentDriverName = "";
+    private volatile String defaultDriverName = "";
+    private final ThreadLocal<String> threadDriverName = new ThreadLocal<>();
+    private final Map<String, Supplier<WebDriver>> drivers = new ConcurrentHashMap<>();
+    private final Map<String, WebDriver> sharedRunDrivers = new ConcurrentHashMap<>();
+    private final Map<String, Object> startLocks = new ConcurrentHashMap<>();
+    private final ThreadLocal<Map<String, WebDriver>> threadRunDrivers = ThreadLocal.withInitial(HashMap::new);
+    private final Set<WebDriver> startedDrivers = ConcurrentHashMap.newKeySet();
     public AppiumDriverFactory() {
         this(false, new HighlightSettings(), WebElement::isDisplayed);
     }
@@ -80,14 +99,30 @@ public class AppiumDriverFactory implements IDriver<WebDriver> {
     }
 
     public String currentDriverName() {
-        return currentDriverName;
+        String legacyName = currentDriverName;
+        if (!legacyName.equals(defaultDriverName)) {
+            defaultDriverName = legacyName;
+            threadDriverName.remove();
+        }
+        String driverName = threadDriverName.get();
+        return driverName != null ? driverName : defaultDriverName;
+    }
+
+    private void setCurrentDriver(String driverName) {
+        defaultDriverName = driverName;
+        currentDriverName = driverName;
+        threadDriverName.set(driverName);
+    }
+
+    private Map<String, WebDriver> runDrivers() {
+        return driverPerThread ? threadRunDrivers.get() : sharedRunDrivers;
     }
 
     public boolean hasDrivers() {
-        return drivers.any();
+        return !drivers.isEmpty();
     }
     public boolean hasRunDrivers() {
-        return runDrivers.any();
+        return !runDrivers().isEmpty();
     }
 
     // REGISTER DRIVER
@@ -159,45 +194,101 @@ public class AppiumDriverFactory implements IDriver<WebDriver> {
         int numerator = 2;
         String driverName = driverType.toString();
         // TODO correct constant 100
-        while (!drivers.add(driverName, driver) && numerator < 100)
+        while (drivers.putIfAbsent(driverName, driver) != null && numerator < 100)
             driverName = driverType.toString() + numerator++;
-        currentDriverName = driverName;
+        setCurrentDriver(driverName);
         return driverName;
     }
     public String registerDriver(String driverName, Supplier<WebDriver> driver) {
-        if (!drivers.add(driverName, driver))
+        if (drivers.putIfAbsent(driverName, driver) != null)
             throw exception("Can't register WebDriver '%s'. Driver with same name already registered", driverName);
-        currentDriverName = driverName;
+        setCurrentDriver(driverName);
         return driverName;
     }
 
     public WebDriver getDriver() {
         try {
-            if (!currentDriverName.equals(""))
-                return getDriver(currentDriverName);
-            registerDriver(ANDROID);
-            return getDriver(ANDROID.toString());
+            if (currentDriverName().equals(""))
+                synchronized (drivers) {
+                    if (currentDriverName().equals(""))
+                        registerDriver(ANDROID);
+                }
+            return getDriver(currentDriverName());
         } catch (Exception ex) {
             throw WebSettings.asserter.exception("Can't get WebDriver. " + LINE_BREAK + ex.getMessage());
         }
     }
 
     public WebDriver getDriver(String driverName) {
+        Supplier<WebDriver> driver = drivers.get(driverName);
+        if (driver == null)
+            throw exception("Can't find driver with name '%s'", driverName);
         try {
-            if (runDrivers.keys().contains(driverName))
-                return runDrivers.get(driverName);
-            WebDriver resultDriver = drivers.get(driverName).get();
-            runDrivers.add(driverName, resultDriver);
-            if (resultDriver == null)
-                throw exception("Can't get Webdriver '%s'. This Driver name not registered", driverName);
-            resultDriver.manage().window().maximize();
-            resultDriver.manage().timeouts().implicitlyWait(timeouts.waitElementSec, SECONDS);
-            return resultDriver;
+            WebDriver resultDriver = runningDriver(driverName);
+            if (resultDriver != null)
+                return resultDriver;
+            if (driverPerThread)
+                return startRunDriver(driverName, driver);
+            synchronized (startLocks.computeIfAbsent(driverName, name -> new Object())) {
+                resultDriver = runningDriver(driverName);
+                return resultDriver != null ? resultDriver : startRunDriver(driverName, driver);
+            }
         } catch (Exception ex) {
             throw exception("Can't get driver");
         }
     }
 
+    /**
+     * @return Driver started for driverName or null; drivers quit by quitAllDrivers from other thread are dropped
+     */
+    private WebDriver runningDriver(String driverName) {
+        WebDriver runDriver = runDrivers().get(driverName);
+        if (runDriver == null || startedDrivers.contains(runDriver))
+            return runDriver;
+        runDrivers().remove(driverName, runDriver);
+        return null;
+    }
+
+    private WebDriver startRunDriver(String driverName, Supplier<WebDriver> driver) {
+        WebDriver resultDriver = startDriver(driver);
+        if (resultDriver == null)
+            throw exception("Can't get Webdriver '%s'. This Driver name not registered", driverName);
+        runDrivers().put(driverName, resultDriver);
+        return resultDriver;
+    }
+
+    private WebDriver startDriver(Supplier<WebDriver> driver) {
+        WebDriver resultDriver = driver.get();
+        if (resultDriver == null)
+            return null;
+        startedDrivers.add(resultDriver);
+        resultDriver.manage().window().maximize();
+        resultDriver.manage().timeouts().implicitlyWait(timeouts.implicitWaitSec(), SECONDS);
+        return resultDriver;
+    }
+
+    public void switchToDriver(String driverName) {
+        if (drivers.containsKey(driverName))
+            threadDriverName.set(driverName);
+        else
+            throw exception("Can't switch to Webdriver '%s'. This Driver name not registered", driverName);
+    }
+
+    /**
+     * Quit all drivers started by this factory in all threads.
+     * Other threads drop quit drivers on next getDriver and start new ones
+     */
+    public void quitAllDrivers() {
+        for (WebDriver driver : startedDrivers) {
+            startedDrivers.remove(driver);
+            try {
+                driver.quit();
+            } catch (Exception ignore) { }
+        }
+        sharedRunDrivers.clear();
+        threadRunDrivers.remove();
+    }
+
     public void highlight(IElement element) {
         highlight(element, highlightSettings);
     }
@@ -205,7 +296,18 @@ public class AppiumDriverFactory implements IDriver<WebDriver> {
     public void highlight(IElement element, HighlightSettings highlightSettings) {
         if (highlightSettings == null)
             highlightSettings = new HighlightSettings();
-        String orig = ((Element) element).getWebElement().getAttribute("style");
+        WebElement webElement = ((Element) element).getWebElement();
+        WebDriver driver = ((Element) element).getDriver();
+        if (!highlightSettings.isWaitHighlight() && driver instanceof JavascriptExecutor)
+            try {
+                ((JavascriptExecutor) driver).executeScript(HighlightSettings.HIGHLIGHT_SCRIPT, webElement,
+                        highlightSettings.getFrameColor(), highlightSettings.getBgColor(),
+                        highlightSettings.getTimeoutInSec() * 1000);
+                return;
+            } catch (WebDriverException ex) {
+                logger.debug("Can't highlight element by script: " + ex.getMessage());
+            }
+        String orig = webElement.getAttribute("style");
         element.setAttribute("style", format("border: 3px solid %s; background-color: %s;", highlightSettings.getFrameColor(),
                 highlightSettings.getBgColor()));
         sleep(highlightSettings.getTimeoutInSec() * 1000);
@@ -27,8 +27,8 @@ import java.io.IOException;
 import static com.epam.commons.StringUtils.LINE_BREAK;
 import static com.epam.jdi.uitests.core.settings.JDIData.testName;
 import static com.epam.jdi.uitests.core.settings.JDISettings.driverFactory;
-import static org.apache.commons.io.FileUtils.copyFile;
-import static org.openqa.selenium.OutputType.FILE;
+import static com.epam.jdi.uitests.core.settings.JDISettings.screenshots;
+import static org.openqa.selenium.OutputType.BASE64;
 
 /**
  * Created by Roman_Iovlev on 7/21/2015.
@@ -78,18 +78,7 @@ public class ScreenshotMaker {
         if (!driverFactory.hasRunDrivers())
             return "Can't do Screenshot. No Drivers run";
         String path = new File(".").getCanonicalPath() + getValidUrl(pathSuffix);
-        String screensFilePath = getFileName(path + (testName != null ? testName : "screen") + Timer.nowDate().replace(":", "-"));
-        new File(screensFilePath).getParentFile().mkdirs();
-            File screensFile = ((TakesScreenshot) driverFactory.getDriver()).getScreenshotAs(FILE);
-            copyFile(screensFile, new File(screensFilePath));
-        return screensFilePath;
-    }
-
-    private String getFileName(String fileName) {
-        int num = 1;
-        String newName = fileName;
-        while (new File(newName + ".jpg").exists())
-            newName = fileName + "_" + num++;
-        return newName + ".jpg";
+        String screen = ((TakesScreenshot) driverFactory.getDriver()).getScreenshotAs(BASE64);
+        return screenshots.save(screen, path + (testName != null ? testName : "screen") + Timer.nowDate().replace(":", "-"));
     }
 }
\ No newline at end of file
@@ -186,13 +186,14 @@ public abstract class BaseElement implements IBaseElement {
     }
 
     public void setWaitTimeout(long mSeconds) {
-        logger.debug("Set wait timeout to " + mSeconds);
-        getDriver().manage().timeouts().implicitlyWait(mSeconds, MILLISECONDS);
+        logger.debug("Set wait timeout to {}", mSeconds);
+        if (!timeouts.noImplicitWait)
+            getDriver().manage().timeouts().implicitlyWait(mSeconds, MILLISECONDS);
         timeouts.currentTimeoutSec = (int) (mSeconds / 1000);
     }
 
     public void restoreWaitTimeout() {
-        setWaitTimeout(timeouts.waitElementSec);
+        setWaitTimeout(timeouts.waitElementSec * 1000L);
     }
 
     protected String getTypeName() {
@@ -212,7 +213,7 @@ public abstract class BaseElement implements IBaseElement {
     }
 
     public void logAction(String actionName, LogLevels level) {
-        toLog(format(shortLogMessagesFormat
+        toLog(() -> format(shortLogMessagesFormat
                 ? "%s for %s"
                 : "Perform action '%s' with Element (%s)", actionName, this.toString()), level);
     }
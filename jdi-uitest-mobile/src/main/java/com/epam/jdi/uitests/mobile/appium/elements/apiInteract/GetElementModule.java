@@ -91,16 +91,16 @@ public class GetElementModule {
     public void setDriverName(String driverName) { this.driverName = driverName; }
 
     public WebElement getElement() {
-        logger.debug("Get Web Element: " + element);
+        logger.debug("Get Web Element: {}", element);
         WebElement element = timer().getResultByCondition(this::getElementAction, el -> el != null);
         logger.debug("One Element found");
         return element;
     }
 
     public List<WebElement> getElements() {
-        logger.debug("Get Web elements: " + element);
+        logger.debug("Get Web elements: {}", element);
         List<WebElement> elements = getElementsAction();
-        logger.debug("Found %s elements", elements.size());
+        logger.debug("Found {} elements", elements.size());
         return elements;
     }
 
@@ -177,8 +177,8 @@ public class Element extends BaseElement implements IElement {
      */
     @JDIAction
     public <T> T wait(Function<WebElement, T> resultFunc, Function<T, Boolean> condition, int timeoutSec) {
-        setWaitTimeout(timeoutSec);
-        T result = new Timer(timeoutSec).getResultByCondition(() -> resultFunc.apply(getWebElement()), condition::apply);
+        setWaitTimeout(timeoutSec * 1000L);
+        T result = new Timer(timeoutSec * 1000L).getResultByCondition(() -> resultFunc.apply(getWebElement()), condition::apply);
         restoreWaitTimeout();
         return result;
     }
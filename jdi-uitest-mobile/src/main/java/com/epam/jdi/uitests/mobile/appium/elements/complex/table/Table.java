@@ -38,8 +38,6 @@ import static com.epam.commons.PrintUtils.print;
 import static com.epam.commons.Timer.waitCondition;
 import static com.epam.jdi.uitests.core.settings.JDISettings.*;
 import static java.util.Arrays.asList;
-import static java.util.concurrent.TimeUnit.MILLISECONDS;
-import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
  * Created by Roman_Iovlev on 6/2/2015.
@@ -413,9 +411,9 @@ public class Table extends Text implements ITable, Cloneable {
     }
 
     public boolean isEmpty() {
-        getDriver().manage().timeouts().implicitlyWait(0, MILLISECONDS);
+        setWaitTimeout(0);
         int rowsCount = rows().count();
-        getDriver().manage().timeouts().implicitlyWait(timeouts.waitElementSec, SECONDS);
+        restoreWaitTimeout();
         return rowsCount == 0;
     }
 
@@ -126,7 +126,7 @@ public class AppPage extends BaseElement implements IPage {
 
     public void isOpened() {
         try {
-            logger.info("Page %s is opened", getName());
+            logger.info("Page {} is opened", getName());
             if (getDriver().getCurrentUrl().equals(url)) return;
             open();
         } catch (Exception ex) {
@@ -35,11 +35,11 @@ import static com.epam.jdi.uitests.mobile.WebSettings.useDriver;
  */
 public class Site {
     public static <T> void Init(Class<T> site) {
-        CascadeInit.initPages(site, getDriverFactory().currentDriverName);
+        CascadeInit.initPages(site, getDriverFactory().currentDriverName());
     }
     protected String driverName;
 
-    public Site() { CascadeInit.initPages(this, getDriverFactory().currentDriverName); }
+    public Site() { CascadeInit.initPages(this, getDriverFactory().currentDriverName()); }
     public Site(DriverTypes driver) {
         driverName = useDriver(driver);
         CascadeInit.initPages(this, driverName);
@@ -27,6 +27,7 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 
 import static com.epam.commons.StringUtils.LINE_BREAK;
+import static com.epam.jdi.uitests.core.reporting.PerformanceStatistic.exportStatistic;
 import static com.epam.jdi.uitests.core.settings.JDISettings.*;
 import static com.epam.jdi.uitests.mobile.WebSettings.useDriver;
 import static com.epam.jdi.uitests.mobile.appium.driver.DriverTypes.ANDROID;
@@ -57,5 +58,8 @@ public class TestNGBase {
     public static void jdiTearDown() {
         logger.info("Test run finished. " + LINE_BREAK + "Total test run time: " +
                 new SimpleDateFormat("HH:mm:ss.S").format(new Date(21 * 3600000 + getTestRunTime())));
+        driverFactory.quitAllDrivers();
         killAllRunWebDrivers();
+        screenshots.flush();
+        exportStatistic();
     }}
\ No newline at end of file
@@ -53,7 +53,7 @@ public class TestNGListener implements IInvokedMethodListener {
             Method testMethod = iInvokedMethod.getTestMethod().getConstructorOrMethod().getMethod();
             if (testMethod.isAnnotationPresent(Test.class)) {
                 testName = testMethod.getName();
-                logger.info("== Test '%s' started ==", testName);
+                logger.info("== Test '{}' started ==", testName);
             }
         }
     }
@@ -67,7 +67,7 @@ public class TestNGListener implements IInvokedMethodListener {
                     logger.error(fail);
                 result.setStatus(FAILURE);
             }
-            logger.info("=== Test '%s' %s ===", testName, getTestResult(result));
+            logger.info("=== Test '{}' {} ===", testName, getTestResult(result));
         }
     }
 
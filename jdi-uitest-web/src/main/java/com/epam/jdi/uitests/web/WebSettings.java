@@ -33,6 +33,8 @@ import com.epam.jdi.uitests.web.selenium.elements.common.*;
 import com.epam.jdi.uitests.web.selenium.elements.complex.*;
 import com.epam.jdi.uitests.web.selenium.elements.complex.table.Table;
 import com.epam.jdi.uitests.web.selenium.elements.complex.table.interfaces.ITable;
+import com.epam.jdi.uitests.web.selenium.elements.composite.Form;
+import com.epam.jdi.uitests.web.selenium.preconditions.PreconditionsState;
 import com.epam.jdi.uitests.web.testng.testRunner.TestNGLogger;
 import com.epam.web.matcher.base.BaseMatcher;
 import com.epam.web.matcher.testng.Assert;
@@ -63,6 +65,10 @@ public class WebSettings extends JDISettings {
         return getDriverFactory().registerDriver(driverName);
     }
 
+    public static String useDriverPool(DriverTypes driverName, int poolSize) {
+        return getDriverFactory().registerPooledDriver(driverName, poolSize);
+    }
+
     public static String useDriver(Supplier<WebDriver> driver) {
         return getDriverFactory().registerDriver(driver);
     }
@@ -92,8 +98,26 @@ public class WebSettings extends JDISettings {
 
     public synchronized static void initFromProperties() throws IOException {
         JDISettings.initFromProperties();
+        String useCache = getProperty("cache.elements");
+        getDriverFactory().elementsCache.enabled = useCache != null && (useCache.equals("true") || useCache.equals("1"));
+        String trackFrames = getProperty("frames.track");
+        getDriverFactory().frameContext.enabled = trackFrames != null && (trackFrames.equals("true") || trackFrames.equals("1"));
+        String browserWaits = getProperty("waits.browser");
+        getDriverFactory().browserWaits = browserWaits != null && (browserWaits.equals("true") || browserWaits.equals("1"));
+        String searchByScript = getProperty("search.script");
+        getDriverFactory().searchByScript = searchByScript != null && (searchByScript.equals("true") || searchByScript.equals("1"));
+        String bulkRead = getProperty("elements.bulkread");
+        getDriverFactory().bulkRead = bulkRead != null && (bulkRead.equals("true") || bulkRead.equals("1"));
+        String bulkFind = getProperty("elements.bulkfind");
+        getDriverFactory().bulkFind = bulkFind != null && (bulkFind.equals("true") || bulkFind.equals("1"));
+        String statesPath = getProperty("preconditions.states.path");
+        if (statesPath != null)
+            PreconditionsState.browserStatesPath = statesPath;
+        String fastFill = getProperty("forms.fastfill");
+        Form.fastFillForms = fastFill != null && (fastFill.equals("true") || fastFill.equals("1"));
         String isMultithread = getProperty("multithread");
-        logger = isMultithread != null && (isMultithread.equals("true") || isMultithread.equals("1"))
+        getDriverFactory().driverPerThread = isMultithread != null && (isMultithread.equals("true") || isMultithread.equals("1"));
+        logger = getDriverFactory().driverPerThread
             ? new TestNGLogger("JDI Logger", s -> String.format("[ThreadId: %s] %s", Thread.currentThread().getId(), s))
             : new TestNGLogger("JDI Logger");
     }
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.jdi.uitests.web.selenium.driver;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static com.epam.jdi.uitests.core.settings.JDISettings.exception;
+import static com.epam.jdi.uitests.core.settings.JDISettings.logger;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Snapshot of browser state: current url, cookies, localStorage and sessionStorage.
+ * Captured once (e.g. after login) it can be saved to json file and restored in other session instead of UI steps
+ */
+public class BrowserState {
+    private static final String CAPTURE_SCRIPT =
+            "var copy = function(storage) {\n" +
+            "  var result = {};\n" +
+            "  try {\n" +
+            "    for (var i = 0; i < storage.length; i++) result[storage.key(i)] = storage.getItem(storage.key(i));\n" +
+            "  } catch (ex) { }\n" +
+            "  return result;\n" +
+            "};\n" +
+            "return [window.location.href, copy(window.localStorage), copy(window.sessionStorage)];";
+    private static final String RESTORE_SCRIPT =
+            "var fill = function(storage, items) {\n" +
+            "  try {\n" +
+            "    storage.clear();\n" +
+            "    for (var key in items) storage.setItem(key, items[key]);\n" +
+            "  } catch (ex) { }\n" +
+            "};\n" +
+            "fill(window.localStorage, arguments[0]);\n" +
+            "fill(window.sessionStorage, arguments[1]);";
+    private static final String CLEAR_SCRIPT =
+            "try { window.localStorage && localStorage.clear(); window.sessionStorage && sessionStorage.clear(); } catch (ex) { }";
+
+    public String url;
+    public ArrayList<Cookie> cookies = new ArrayList<>();
+    public HashMap<String, String> localStorage = new HashMap<>();
+    public HashMap<String, String> sessionStorage = new HashMap<>();
+
+    /**
+     * @param driver Specify driver
+     * @return State of browser on current page
+     */
+    public static BrowserState capture(WebDriver driver) {
+        BrowserState state = new BrowserState();
+        state.cookies.addAll(driver.manage().getCookies());
+        if (driver instanceof JavascriptExecutor) {
+            List<Object> result = (List<Object>) ((JavascriptExecutor) driver).executeScript(CAPTURE_SCRIPT);
+            state.url = (String) result.get(0);
+            copy((Map<String, Object>) result.get(1), state.localStorage);
+            copy((Map<String, Object>) result.get(2), state.sessionStorage);
+        } else
+            state.url = driver.getCurrentUrl();
+        return state;
+    }
+
+    /**
+     * @param driver Specify driver
+     * Clears cookies and storages of current page
+     */
+    public static void clear(WebDriver driver) {
+        driver.manage().deleteAllCookies();
+        clearStorages(driver);
+    }
+
+    /**
+     * @param driver Specify driver
+     * Clears localStorage and sessionStorage of current page
+     */
+    public static void clearStorages(WebDriver driver) {
+        if (driver instanceof JavascriptExecutor)
+            ((JavascriptExecutor) driver).executeScript(CLEAR_SCRIPT);
+    }
+
+    /**
+     * @param driver Specify driver
+     * Opens url of state with cookies and storages of state. Cookies of other domains are skipped
+     */
+    public void restore(WebDriver driver) {
+        driver.navigate().to(url);
+        driver.manage().deleteAllCookies();
+        String host = host(url);
+        Date now = new Date();
+        for (Cookie cookie : cookies)
+            if ((cookie.getExpiry() == null || cookie.getExpiry().after(now)) && matchesDomain(cookie, host))
+                addCookie(driver, cookie);
+        if (driver instanceof JavascriptExecutor && (!localStorage.isEmpty() || !sessionStorage.isEmpty()))
+            ((JavascriptExecutor) driver).executeScript(RESTORE_SCRIPT, localStorage, sessionStorage);
+        driver.navigate().refresh();
+    }
+
+    /**
+     * @param path Specify file
+     */
+    public void save(Path path) {
+        try {
+            if (path.getParent() != null)
+                Files.createDirectories(path.getParent());
+            Files.write(path, toJson().getBytes(UTF_8));
+        } catch (IOException ex) {
+            throw exception("Can't save browser state to '%s'. Reason: %s", path, ex.getMessage());
+        }
+    }
+
+    /**
+     * @param path Specify file
+     * @return State saved to file or null if there is no such file or it is not valid browser state json
+     */
+    public static BrowserState load(Path path) {
+        if (!Files.exists(path))
+            return null;
+        try {
+            return fromJson(new String(Files.readAllBytes(path), UTF_8));
+        } catch (IOException | RuntimeException ex) {
+            logger.debug("Can't load browser state from '" + path + "': " + ex.getMessage());
+            return null;
+        }
+    }
+
+    public String toJson() {
+        JsonObject json = new JsonObject();
+        json.addProperty("url", url);
+        JsonArray cookiesJson = new JsonArray();
+        for (Cookie cookie : cookies) {
+            JsonObject cookieJson = new JsonObject();
+            cookieJson.addProperty("name", cookie.getName());
+            cookieJson.addProperty("value", cookie.getValue());
+            cookieJson.addProperty("domain", cookie.getDomain());
+            cookieJson.addProperty("path", cookie.getPath());
+            if (cookie.getExpiry() != null)
+                cookieJson.addProperty("expiry", cookie.getExpiry().getTime());
+            cookieJson.addProperty("secure", cookie.isSecure());
+            cookieJson.addProperty("httpOnly", cookie.isHttpOnly());
+            cookiesJson.add(cookieJson);
+        }
+        json.add("cookies", cookiesJson);
+        json.add("localStorage", toJson(localStorage));
+        json.add("sessionStorage", toJson(sessionStorage));
+        return json.toString();
+    }
+
+    /**
+     * @param text Specify json written by toJson
+     * @return Browser state; throws JsonParseException if json has other structure
+     */
+    public static BrowserState fromJson(String text) {
+        JsonObject json = new JsonParser().parse(text).getAsJsonObject();
+        BrowserState state = new BrowserState();
+        state.url = string(json, "url");
+        if (state.url == null)
+            throw new JsonParseException("Browser state has no url");
+        for (JsonElement element : json.getAsJsonArray("cookies")) {
+            JsonObject cookie = element.getAsJsonObject();
+            JsonElement expiry = cookie.get("expiry");
+            state.cookies.add(new Cookie(string(cookie, "name"), string(cookie, "value"), string(cookie, "domain"),
+                    string(cookie, "path"), expiry != null ? new Date(expiry.getAsLong()) : null,
+                    cookie.get("secure").getAsBoolean(), cookie.get("httpOnly").getAsBoolean()));
+        }
+        fromJson(json.getAsJsonObject("localStorage"), state.localStorage);
+        fromJson(json.getAsJsonObject("sessionStorage"), state.sessionStorage);
+        return state;
+    }
+
+    private static JsonObject toJson(Map<String, String> items) {
+        JsonObject json = new JsonObject();
+        items.forEach(json::addProperty);
+        return json;
+    }
+
+    private static void fromJson(JsonObject json, Map<String, String> items) {
+        for (Map.Entry<String, JsonElement> item : json.entrySet())
+            items.put(item.getKey(), item.getValue().isJsonNull() ? null : item.getValue().getAsString());
+    }
+
+    private static String string(JsonObject json, String name) {
+        JsonElement value = json.get(name);
+        return value == null || value.isJsonNull() ? null : value.getAsString();
+    }
+
+    private static String host(String url) {
+        try {
+            return new URI(url).getHost();
+        } catch (URISyntaxException ex) {
+            return null;
+        }
+    }
+
+    private static boolean matchesDomain(Cookie cookie, String host) {
+        String domain = cookie.getDomain();
+        if (domain == null || host == null)
+            return true;
+        domain = domain.startsWith(".") ? domain.substring(1) : domain;
+        return host.equalsIgnoreCase(domain) || host.toLowerCase().endsWith("." + domain.toLowerCase());
+    }
+
+    private static void addCookie(WebDriver driver, Cookie cookie) {
+        try {
+            driver.manage().addCookie(cookie);
+        } catch (WebDriverException ex) {
+            logger.debug("Can't restore cookie '" + cookie.getName() + "' for domain " + cookie.getDomain());
+        }
+    }
+
+    private static void copy(Map<String, Object> from, Map<String, String> to) {
+        if (from != null)
+            from.forEach((key, value) -> to.put(key, value != null ? value.toString() : null));
+    }
+
+    @Override
+    public String toString() {
+        return "Browser state of " + url;
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.jdi.uitests.web.selenium.driver;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static com.epam.jdi.uitests.core.settings.JDISettings.exception;
+import static com.epam.jdi.uitests.core.settings.JDISettings.logger;
+import static java.lang.System.currentTimeMillis;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Pool of started WebDriver sessions.
+ * Sessions are started in background, leased to tests and returned with cleaned state instead of quit.
+ * Unhealthy sessions are quit and replaced by new ones
+ */
+public class DriverPool {
+    public int leaseTimeoutSec = 120;
+    public String blankPage = "about:blank";
+    public Dimension windowSize;
+    public Consumer<WebDriver> resetState = this::resetState;
+    /**
+     * Moves idle session to state expected by next test (e.g. driver -> isInState(HOME_PAGE, driver)) in background
+     */
+    public Consumer<WebDriver> prepareState;
+    private final Supplier<WebDriver> driver;
+    private final int size;
+    private final BlockingQueue<WebDriver> idleDrivers = new LinkedBlockingQueue<>();
+    private final AtomicInteger aliveDrivers = new AtomicInteger();
+    private final ExecutorService starter;
+    private volatile boolean isShutdown = false;
+
+    public DriverPool(Supplier<WebDriver> driver, int size) {
+        if (size < 1)
+            throw exception("Can't create DriverPool with size %s", size);
+        this.driver = driver;
+        this.size = size;
+        starter = Executors.newFixedThreadPool(size, runnable -> {
+            Thread thread = new Thread(runnable, "JDI DriverPool");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start all sessions of pool in background
+     */
+    public DriverPool warmUp() {
+        return warmUp(size);
+    }
+
+    public DriverPool warmUp(int count) {
+        for (int i = 0; i < count; i++)
+            starter.submit(this::startIdleDriver);
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int idleCount() {
+        return idleDrivers.size();
+    }
+
+    public int aliveCount() {
+        return aliveDrivers.get();
+    }
+
+    /**
+     * @return Healthy session from pool. If there is no idle one waits for session started in background
+     * (new one is started if pool is not full) or released by other test
+     */
+    public WebDriver lease() {
+        if (isShutdown)
+            throw exception("Can't lease WebDriver. DriverPool is shut down");
+        WebDriver result = pollHealthy();
+        if (result != null)
+            return result;
+        if (aliveDrivers.get() < size)
+            try {
+                starter.submit(this::startIdleDriver);
+            } catch (RejectedExecutionException ignore) { }
+        long deadline = currentTimeMillis() + leaseTimeoutSec * 1000L;
+        try {
+            for (long timeLeft = leaseTimeoutSec * 1000L; timeLeft > 0; timeLeft = deadline - currentTimeMillis()) {
+                result = idleDrivers.poll(timeLeft, MILLISECONDS);
+                if (result == null)
+                    break;
+                if (isHealthy(result))
+                    return result;
+                evict(result);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        throw exception("Can't lease WebDriver from DriverPool during %s seconds", leaseTimeoutSec);
+    }
+
+    /**
+     * @param driver Specify session leased from pool
+     * Cleans session state and returns it to pool. Unhealthy session is quit and replaced
+     */
+    public void release(WebDriver driver) {
+        if (driver == null) return;
+        if (isShutdown || !isHealthy(driver)) {
+            evict(driver);
+            return;
+        }
+        try {
+            resetState.accept(driver);
+        } catch (Exception ex) {
+            logger.debug("Can't reset WebDriver state: " + ex.getMessage());
+            evict(driver);
+            return;
+        }
+        offerIdle(driver);
+    }
+
+    public boolean isHealthy(WebDriver driver) {
+        try {
+            return driver.getWindowHandle() != null;
+        } catch (Exception ex) {
+            return false;
+        }
+    }
+
+    public void resetState(WebDriver driver) {
+        List<String> windows = new ArrayList<>(driver.getWindowHandles());
+        for (int i = 1; i < windows.size(); i++) {
+            driver.switchTo().window(windows.get(i));
+            driver.close();
+        }
+        driver.switchTo().window(windows.get(0));
+        driver.switchTo().defaultContent();
+        BrowserState.clear(driver);
+        driver.navigate().to(blankPage);
+        if (windowSize != null)
+            driver.manage().window().setSize(windowSize);
+        else
+            driver.manage().window().maximize();
+    }
+
+    public void shutdown() {
+        isShutdown = true;
+        starter.shutdownNow();
+        WebDriver idleDriver;
+        while ((idleDriver = idleDrivers.poll()) != null)
+            evict(idleDriver);
+    }
+
+    private WebDriver pollHealthy() {
+        WebDriver result;
+        while ((result = idleDrivers.poll()) != null) {
+            if (isHealthy(result))
+                return result;
+            evict(result);
+        }
+        return null;
+    }
+
+    private boolean reserve() {
+        int alive;
+        do {
+            alive = aliveDrivers.get();
+            if (alive >= size)
+                return false;
+        } while (!aliveDrivers.compareAndSet(alive, alive + 1));
+        return true;
+    }
+
+    private WebDriver start() {
+        try {
+            WebDriver result = driver.get();
+            if (result == null)
+                throw exception("Can't start WebDriver for DriverPool");
+            return result;
+        } catch (RuntimeException ex) {
+            aliveDrivers.decrementAndGet();
+            throw ex;
+        }
+    }
+
+    private void startIdleDriver() {
+        if (isShutdown || !reserve()) return;
+        try {
+            prepare(start());
+        } catch (Exception ex) {
+            logger.debug("Can't start WebDriver for DriverPool: " + ex.getMessage());
+        }
+    }
+
+    private void offerIdle(WebDriver driver) {
+        if (prepareState == null) {
+            addIdle(driver);
+            return;
+        }
+        try {
+            starter.submit(() -> prepare(driver));
+        } catch (RejectedExecutionException ex) {
+            evict(driver);
+        }
+    }
+
+    private void prepare(WebDriver driver) {
+        if (prepareState != null)
+            try {
+                prepareState.accept(driver);
+            } catch (Exception ex) {
+                logger.debug("Can't prepare WebDriver state: " + ex.getMessage());
+            }
+        addIdle(driver);
+    }
+
+    /**
+     * Session started or prepared while pool is shutting down is quit instead of being kept
+     */
+    private void addIdle(WebDriver driver) {
+        if (isShutdown) {
+            evict(driver);
+            return;
+        }
+        idleDrivers.offer(driver);
+        if (isShutdown && idleDrivers.remove(driver))
+            evict(driver);
+    }
+
+    private void evict(WebDriver driver) {
+        aliveDrivers.decrementAndGet();
+        try {
+            driver.quit();
+        } catch (Exception ignore) { }
+        if (!isShutdown)
+            try {
+                starter.submit(this::startIdleDriver);
+            } catch (RejectedExecutionException ignore) { }
+    }
+}
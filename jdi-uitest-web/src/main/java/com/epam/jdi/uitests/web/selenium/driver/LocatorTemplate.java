@@ -0,0 +1,208 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.jdi.uitests.web.selenium.driver;
+
+import org.openqa.selenium.By;
+
+import java.math.BigInteger;
+import java.text.MessageFormat;
+import java.util.*;
+import java.util.function.Function;
+
+import static java.lang.String.format;
+
+/**
+ * Locator parsed once: kind (xpath, cssSelector...), locator string and compiled template segments.
+ * Only %s, %d, %% and %n are compiled, other templates are filled by String.format.
+ * Last filled locators are kept per template
+ */
+public class LocatorTemplate {
+    private static final int FILLED_CACHE_SIZE = 32;
+    public final String kind;
+    public final String locator;
+    private final By by;
+    private final Function<String, By> byFunc;
+    private final String[] literals;
+    private final char[] conversions;
+    private final boolean isTemplate;
+    private final Map<Object, By> filled = new LinkedHashMap<Object, By>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, By> eldest) {
+            return size() > FILLED_CACHE_SIZE;
+        }
+    };
+    private MessageFormat messageFormat;
+    private By relative;
+
+    LocatorTemplate(By by, String kind, String locator, Function<String, By> byFunc) {
+        this.by = by;
+        this.kind = kind;
+        this.locator = locator;
+        this.byFunc = byFunc;
+        this.isTemplate = locator.contains("%s");
+        List<String> literalsList = new ArrayList<>();
+        StringBuilder conversionsList = new StringBuilder();
+        if (!compile(locator, literalsList, conversionsList)) {
+            literals = null;
+            conversions = null;
+        } else {
+            literals = literalsList.toArray(new String[literalsList.size()]);
+            conversions = conversionsList.toString().toCharArray();
+        }
+    }
+
+    public static LocatorTemplate of(By by) {
+        return WebDriverByUtils.getTemplate(by);
+    }
+
+    /**
+     * @return true if locator has %s placeholder
+     */
+    public boolean isTemplate() {
+        return isTemplate;
+    }
+
+    /**
+     * @param args Specify values for template as for String.format
+     * @return locator of the same kind with filled template
+     */
+    public By fill(Object... args) {
+        Object key = cacheKey(args);
+        if (key != null)
+            synchronized (filled) {
+                By result = filled.get(key);
+                if (result != null)
+                    return result;
+            }
+        By result = toBy(fillLocator(args), args);
+        if (key != null)
+            synchronized (filled) {
+                filled.put(key, result);
+            }
+        return result;
+    }
+
+    /**
+     * @param args Specify values for template as for MessageFormat.format
+     * @return locator of the same kind with filled template
+     */
+    public By fillMsg(Object... args) {
+        String result;
+        try {
+            synchronized (this) {
+                if (messageFormat == null)
+                    messageFormat = new MessageFormat(locator);
+                result = messageFormat.format(args);
+            }
+        } catch (Exception ex) {
+            throw new RuntimeException(WebDriverByUtils.getBadLocatorMsg(locator, args));
+        }
+        return toBy(result, args);
+    }
+
+    public By copy() {
+        return toBy(locator);
+    }
+
+    /**
+     * @return xpath started from '//' as relative to context element (.//), other locators as is
+     */
+    public By relative() {
+        if (relative == null)
+            relative = kind.equals("xpath") && locator.startsWith("//")
+                    ? By.xpath("." + locator)
+                    : by;
+        return relative;
+    }
+
+    private By toBy(String locator, Object... args) {
+        if (byFunc == null)
+            throw new RuntimeException(WebDriverByUtils.getBadLocatorMsg(by.toString(), args));
+        return byFunc.apply(locator);
+    }
+
+    private String fillLocator(Object... args) {
+        if (literals == null)
+            try {
+                return format(locator, args);
+            } catch (Exception ex) {
+                throw new RuntimeException(WebDriverByUtils.getBadLocatorMsg(locator, args));
+            }
+        if (args.length < conversions.length)
+            throw new RuntimeException(WebDriverByUtils.getBadLocatorMsg(locator, args));
+        StringBuilder result = new StringBuilder(locator.length() + 8 * conversions.length);
+        for (int i = 0; i < conversions.length; i++) {
+            result.append(literals[i]);
+            Object arg = args[i];
+            if (conversions[i] == 'd' && arg != null && !isInteger(arg))
+                throw new RuntimeException(WebDriverByUtils.getBadLocatorMsg(locator, args));
+            result.append(arg);
+        }
+        return result.append(literals[conversions.length]).toString();
+    }
+
+    private static boolean compile(String template, List<String> literals, StringBuilder conversions) {
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < template.length(); i++) {
+            char c = template.charAt(i);
+            if (c != '%') {
+                literal.append(c);
+                continue;
+            }
+            if (++i == template.length())
+                return false;
+            switch (template.charAt(i)) {
+                case 's':
+                case 'd':
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    conversions.append(template.charAt(i));
+                    break;
+                case '%':
+                    literal.append('%');
+                    break;
+                case 'n':
+                    literal.append(System.lineSeparator());
+                    break;
+                default:
+                    return false;
+            }
+        }
+        literals.add(literal.toString());
+        return true;
+    }
+
+    private static boolean isInteger(Object arg) {
+        return arg instanceof Integer || arg instanceof Long || arg instanceof Short
+                || arg instanceof Byte || arg instanceof BigInteger;
+    }
+
+    private static Object cacheKey(Object[] args) {
+        for (Object arg : args)
+            if (!(arg instanceof String || arg instanceof Integer || arg instanceof Long
+                    || arg instanceof Enum || arg instanceof Boolean || arg instanceof Character))
+                return null;
+        return args.length == 1 ? args[0] : Arrays.asList(args.clone());
+    }
+
+    @Override
+    public String toString() {
+        return by.toString();
+    }
+}
@@ -18,15 +18,18 @@
 
 package com.epam.jdi.uitests.web.selenium.driver;
 
-import com.epam.commons.map.MapArray;
 import com.epam.jdi.uitests.core.interfaces.base.IElement;
 import com.epam.jdi.uitests.core.interfaces.settings.IDriver;
 import com.epam.jdi.uitests.core.settings.HighlightSettings;
 import com.epam.jdi.uitests.web.WebSettings;
 import com.epam.jdi.uitests.web.selenium.elements.BaseElement;
+import com.epam.jdi.uitests.web.selenium.elements.apiInteract.ElementsCache;
+import com.epam.jdi.uitests.web.selenium.elements.apiInteract.FrameContext;
 import com.epam.jdi.uitests.web.selenium.elements.base.Element;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.firefox.FirefoxDriver;
@@ -35,8 +38,11 @@ import org.openqa.selenium.remote.DesiredCapabilities;
 import org.openqa.selenium.remote.RemoteWebDriver;
 
 import java.io.File;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -56,23 +62,63 @@ import static org.openqa.selenium.remote.DesiredCapabilities.internetExplorer;
  * Created by Roman_Iovlev on 6/10/2015.
  */
 public class SeleniumDriverFactory implements IDriver<WebDriver> {
-    public Function<WebElement, Boolean> elementSearchCriteria = WebElement::isDisplayed;
+    public static final Function<WebElement, Boolean> displayedCriteria = WebElement::isDisplayed;
+    public Function<WebElement, Boolean> elementSearchCriteria = displayedCriteria;
     public RunTypes runType = LOCAL;
-    public String currentDriverName = "";
     public boolean isDemoMode = false;
+    /**
+     * Every thread runs its own instances of registered drivers (multithread=true)
+     */
+    public boolean driverPerThread = false;
     public HighlightSettings highlightSettings = new HighlightSettings();
+    public ElementsCache elementsCache = new ElementsCache();
+    public FrameContext frameContext = new FrameContext();
+    /**
+     * Wait displayed, vanished, attribute and text inside browser by one async script (see BrowserWaits)
+     */
+    public boolean browserWaits = false;
+    /**
+     * Script timeout of drivers in ms that browser waits set back after their async script.
+     * WebDriver can't read current script timeout, so if it is not set (null) browser waits leave
+     * raised timeout (wait timeout + 5 s) in driver. Set it if tests use own async script timeout
+     */
+    public Long scriptTimeoutMs = null;
+    /**
+     * Find elements and filter displayed ones by one script (see GetElementModule.searchByScript)
+     */
+    public boolean searchByScript = false;
+    /**
+     * Read texts, values, selected state and attributes of option lists by one script (see ElementData)
+     */
+    public boolean bulkRead = false;
+    /**
+     * Find options by texts in option lists by one script (see ElementData.find); independent of bulkRead
+     */
+    public boolean bulkFind = false;
     private String driversPath = "src\\main\\resources";
-    private MapArray<String, Supplier<WebDriver>> drivers = new MapArray<>();
-    private MapArray<String, WebDriver> runDrivers = new MapArray<>();
+    /**
+     * @deprecated use currentDriverName() and switchToDriver(driverName): field keeps last registered driver,
+     * value assigned to it becomes default driver for threads without own switched driver
+     */
+    @Deprecated
+    public volatile String currentDriverName = "";
+    private volatile String defaultDriverName = "";
+    private final ThreadLocal<String> threadDriverName = new ThreadLocal<>();
+    private final Map<String, Supplier<WebDriver>> drivers = new ConcurrentHashMap<>();
+    private final Map<String, WebDriver> sharedRunDrivers = new ConcurrentHashMap<>();
+    private final Map<String, Object> startLocks = new ConcurrentHashMap<>();
+    private final ThreadLocal<Map<String, WebDriver>> threadRunDrivers = ThreadLocal.withInitial(HashMap::new);
+    private final Set<WebDriver> startedDrivers = ConcurrentHashMap.newKeySet();
+    private final Map<String, DriverPool> pools = new ConcurrentHashMap<>();
     public SeleniumDriverFactory() {
-        this(false, new HighlightSettings(), WebElement::isDisplayed);
+        this(false, new HighlightSettings(), displayedCriteria);
     }
     public SeleniumDriverFactory(boolean isDemoMode) {
-        this(isDemoMode, new HighlightSettings(), WebElement::isDisplayed);
+        this(isDemoMode, new HighlightSettings(), displayedCriteria);
     }
 
     public SeleniumDriverFactory(HighlightSettings highlightSettings) {
-        this(false, highlightSettings, WebElement::isDisplayed);
+        this(false, highlightSettings, displayedCriteria);
     }
 
     public SeleniumDriverFactory(Function<WebElement, Boolean> elementSearchCriteria) {
@@ -95,14 +141,30 @@ public class SeleniumDriverFactory implements IDriver<WebDriver> {
     }
 
     public String currentDriverName() {
-        return currentDriverName;
+        String legacyName = currentDriverName;
+        if (!legacyName.equals(defaultDriverName)) {
+            defaultDriverName = legacyName;
+            threadDriverName.remove();
+        }
+        String driverName = threadDriverName.get();
+        return driverName != null ? driverName : defaultDriverName;
+    }
+
+    private void setCurrentDriver(String driverName) {
+        defaultDriverName = driverName;
+        currentDriverName = driverName;
+        threadDriverName.set(driverName);
+    }
+
+    private Map<String, WebDriver> runDrivers() {
+        return driverPerThread ? threadRunDrivers.get() : sharedRunDrivers;
     }
 
     public boolean hasDrivers() {
-        return drivers.any();
+        return !drivers.isEmpty();
     }
     public boolean hasRunDrivers() {
-        return runDrivers.any();
+        return !runDrivers().isEmpty();
     }
 
     // REGISTER DRIVER
@@ -153,24 +215,45 @@ public class SeleniumDriverFactory implements IDriver<WebDriver> {
         throw exception("Unknown driver: " + driverType);
     }
 
+    /**
+     * @param driverType Specify driver type
+     * @param poolSize   Specify count of sessions started in background
+     * @return Name of driver which takes sessions from pool. reopenDriver returns session to pool instead of close
+     */
+    public String registerPooledDriver(DriverTypes driverType, int poolSize) {
+        DriverPool pool = new DriverPool(runType == LOCAL
+                ? localDriver(driverType)
+                : () -> webDriverSettings.apply(new RemoteWebDriver(SauceLabRunner.getSauceUrl(),
+                        SauceLabRunner.getSauceDesiredCapabilities(driverType))),
+                poolSize);
+        String driverName = registerDriver(driverType, pool::lease);
+        pools.put(driverName, pool.warmUp());
+        return driverName;
+    }
+
+    public DriverPool getPool(String driverName) {
+        return pools.get(driverName);
+    }
+
     // GET DRIVER
 
     private String registerLocalDriver(DriverTypes driverType) {
+        return registerDriver(driverType, localDriver(driverType));
+    }
+
+    private Supplier<WebDriver> localDriver(DriverTypes driverType) {
         DesiredCapabilities capabilities;
         switch (driverType) {
             case CHROME:
                 setProperty("webdriver.chrome.driver", getDriversPath() + "chromedriver.exe");
-                return registerDriver(driverType,
-                        () -> webDriverSettings.apply(new ChromeDriver()));
+                return () -> webDriverSettings.apply(new ChromeDriver());
             case FIREFOX:
-                return registerDriver(driverType,
-                        () -> webDriverSettings.apply(new FirefoxDriver()));
+                return () -> webDriverSettings.apply(new FirefoxDriver());
             case IE:
                 capabilities = internetExplorer();
                 capabilities.setCapability(INTRODUCE_FLAKINESS_BY_IGNORING_SECURITY_DOMAINS, true);
                 setProperty("webdriver.ie.driver", getDriversPath() + "IEDriverServer.exe");
-                return registerDriver(driverType,
-                        () -> webDriverSettings.apply(new InternetExplorerDriver(capabilities)));
+                return () -> webDriverSettings.apply(new InternetExplorerDriver(capabilities));
         }
         throw exception("Unknown driver: " + driverType);
     }
@@ -179,24 +262,26 @@ public class SeleniumDriverFactory implements IDriver<WebDriver> {
         int numerator = 2;
         String driverName = driverType.toString();
         // TODO correct constant 100
-        while (!drivers.add(driverName, driver) && numerator < 100)
+        while (drivers.putIfAbsent(driverName, driver) != null && numerator < 100)
             driverName = driverType.toString() + numerator++;
-        currentDriverName = driverName;
+        setCurrentDriver(driverName);
         return driverName;
     }
     public String registerDriver(String driverName, Supplier<WebDriver> driver) {
-        if (!drivers.add(driverName, driver))
+        if (drivers.putIfAbsent(driverName, driver) != null)
             throw exception("Can't register WebDriver '%s'. Driver with same name already registered", driverName);
-        currentDriverName = driverName;
+        setCurrentDriver(driverName);
         return driverName;
     }
 
     public WebDriver getDriver() {
         try {
-            if (!currentDriverName.equals(""))
-                return getDriver(currentDriverName);
-            registerDriver(CHROME);
-            return getDriver(CHROME.toString());
+            if (currentDriverName().equals(""))
+                synchronized (drivers) {
+                    if (currentDriverName().equals(""))
+                        registerDriver(CHROME);
+                }
+            return getDriver(currentDriverName());
         } catch (Exception ex) {
             throw WebSettings.asserter.exception("Can't get WebDriver. " + LINE_BREAK + ex.getMessage());
         }
@@ -204,43 +289,107 @@ public class SeleniumDriverFactory implements IDriver<WebDriver> {
 
     public Function<WebDriver, WebDriver> webDriverSettings = driver -> {
         driver.manage().window().maximize();
-        driver.manage().timeouts().implicitlyWait(timeouts.waitElementSec, SECONDS);
+        driver.manage().timeouts().implicitlyWait(timeouts.implicitWaitSec(), SECONDS);
         return driver;
     };
 
     public WebDriver getDriver(String driverName) {
-        if (!drivers.keys().contains(driverName))
+        Supplier<WebDriver> driver = drivers.get(driverName);
+        if (driver == null)
             throw exception("Can't find driver with name '%s'", driverName);
         try {
-            if (runDrivers.keys().contains(driverName))
-                return runDrivers.get(driverName);
-            WebDriver resultDriver = drivers.get(driverName).get();
-            runDrivers.add(driverName, resultDriver);
-            if (resultDriver == null)
-                throw exception("Can't get Webdriver '%s'. This Driver name not registered", driverName);
-            return resultDriver;
+            WebDriver resultDriver = runningDriver(driverName);
+            if (resultDriver != null)
+                return resultDriver;
+            if (driverPerThread)
+                return startRunDriver(driverName, driver);
+            synchronized (startLocks.computeIfAbsent(driverName, name -> new Object())) {
+                resultDriver = runningDriver(driverName);
+                return resultDriver != null ? resultDriver : startRunDriver(driverName, driver);
+            }
         } catch (Exception ex) {
-            logger.info(format("Drivers: %s; Run: %s", drivers, runDrivers));
+            logger.info(format("Drivers: %s; Run: %s", drivers.keySet(), runDrivers().keySet()));
             throw exception("Can't get driver; Thread: " + Thread.currentThread().getId());
         }
     }
 
+    /**
+     * @return Driver started for driverName or null; drivers quit by quitAllDrivers from other thread are dropped
+     */
+    private WebDriver runningDriver(String driverName) {
+        WebDriver runDriver = runDrivers().get(driverName);
+        if (runDriver == null || startedDrivers.contains(runDriver))
+            return runDriver;
+        runDrivers().remove(driverName, runDriver);
+        return null;
+    }
+
+    private WebDriver startRunDriver(String driverName, Supplier<WebDriver> driver) {
+        WebDriver resultDriver = startDriver(driver);
+        if (resultDriver == null)
+            throw exception("Can't get Webdriver '%s'. This Driver name not registered", driverName);
+        runDrivers().put(driverName, resultDriver);
+        return resultDriver;
+    }
+
+    private WebDriver startDriver(Supplier<WebDriver> driver) {
+        WebDriver resultDriver = driver.get();
+        if (resultDriver == null)
+            return null;
+        startedDrivers.add(resultDriver);
+        if (timeouts.noImplicitWait)
+            resultDriver.manage().timeouts().implicitlyWait(0, SECONDS);
+        return resultDriver;
+    }
+
     public void reopenDriver() {
-        if (runDrivers.keys().contains(currentDriverName)) {
-            runDrivers.get(currentDriverName).close();
-            runDrivers.removeByKey(currentDriverName);
-        }
-        if (drivers.keys().contains(currentDriverName))
+        String driverName = currentDriverName();
+        releaseDriver(driverName);
+        if (drivers.containsKey(driverName))
             getDriver();
     }
 
+    /**
+     * @param driverName Specify driver
+     * Closes running driver in current thread or returns it to pool for pooled drivers
+     */
+    public void releaseDriver(String driverName) {
+        elementsCache.invalidate(driverName);
+        WebDriver runDriver = runDrivers().remove(driverName);
+        if (runDriver == null) return;
+        frameContext.reset(runDriver);
+        startedDrivers.remove(runDriver);
+        if (pools.containsKey(driverName))
+            pools.get(driverName).release(runDriver);
+        else
+            runDriver.close();
+    }
+
     public void switchToDriver(String driverName) {
-        if (drivers.keys().contains(driverName))
-            currentDriverName = driverName;
+        if (drivers.containsKey(driverName))
+            threadDriverName.set(driverName);
         else
             throw exception("Can't switch to Webdriver '%s'. This Driver name not registered", driverName);
     }
 
+    /**
+     * Quit all drivers started by this factory in all threads.
+     * Other threads drop quit drivers on next getDriver and start new ones
+     */
+    public void quitAllDrivers() {
+        pools.values().forEach(DriverPool::shutdown);
+        for (WebDriver driver : startedDrivers) {
+            startedDrivers.remove(driver);
+            frameContext.reset(driver);
+            try {
+                driver.quit();
+            } catch (Exception ignore) { }
+        }
+        elementsCache.invalidateAll();
+        sharedRunDrivers.clear();
+        threadRunDrivers.remove();
+    }
+
     public void processDemoMode(BaseElement element) {
         if (isDemoMode)
             if (isClass(element.getClass(), Element.class))
@@ -254,7 +403,18 @@ public class SeleniumDriverFactory implements IDriver<WebDriver> {
     public void highlight(IElement element, HighlightSettings highlightSettings) {
         if (highlightSettings == null)
             highlightSettings = new HighlightSettings();
-        String orig = ((Element) element).getWebElement().getAttribute("style");
+        WebElement webElement = ((Element) element).getWebElement();
+        WebDriver driver = ((Element) element).getDriver();
+        if (!highlightSettings.isWaitHighlight() && driver instanceof JavascriptExecutor)
+            try {
+                ((JavascriptExecutor) driver).executeScript(HighlightSettings.HIGHLIGHT_SCRIPT, webElement,
+                        highlightSettings.getFrameColor(), highlightSettings.getBgColor(),
+                        highlightSettings.getTimeoutInSec() * 1000);
+                return;
+            } catch (WebDriverException ex) {
+                logger.debug("Can't highlight element by script: " + ex.getMessage());
+            }
+        String orig = webElement.getAttribute("style");
         element.setAttribute("style", format("border: 3px solid %s; background-color: %s;", highlightSettings.getFrameColor(),
                 highlightSettings.getBgColor()));
         sleep(highlightSettings.getTimeoutInSec() * 1000);
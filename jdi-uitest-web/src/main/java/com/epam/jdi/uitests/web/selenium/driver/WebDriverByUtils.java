@@ -20,57 +20,62 @@ package com.epam.jdi.uitests.web.selenium.driver;
 
 import org.openqa.selenium.By;
 
-import java.text.MessageFormat;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static com.epam.commons.LinqUtils.first;
 import static com.epam.commons.LinqUtils.select;
 import static com.epam.commons.PrintUtils.print;
-import static java.lang.String.format;
 
 /**
  * Created by roman.i on 30.09.2014.
  */
 public class WebDriverByUtils {
+    public static int templatesCacheSize = 1000;
+    private static final Map<String, Function<String, By>> BY_TYPES = getMapByTypes();
+    private static final Map<String, LocatorTemplate> TEMPLATES = new ConcurrentHashMap<>();
 
     private WebDriverByUtils() {
     }
 
     public static Function<String, By> getByFunc(By by) {
-        return first(getMapByTypes(), key -> by.toString().contains(key));
+        String byAsString = by.toString();
+        int index = byAsString.indexOf(": ");
+        Function<String, By> byFunc = index > 0 ? BY_TYPES.get(byAsString.substring(0, index)) : null;
+        return byFunc != null
+                ? byFunc
+                : first(BY_TYPES, key -> byAsString.contains(key));
     }
 
-    private static String getBadLocatorMsg(String byLocator, Object... args) {
+    static String getBadLocatorMsg(String byLocator, Object... args) {
         return "Bad locator template '" + byLocator + "'. Args: " + print(select(args, Object::toString), ", ", "'%s'") + ".";
     }
 
+    static LocatorTemplate getTemplate(By by) {
+        String byAsString = by.toString();
+        LocatorTemplate template = TEMPLATES.get(byAsString);
+        if (template != null)
+            return template;
+        if (TEMPLATES.size() >= templatesCacheSize)
+            TEMPLATES.clear();
+        int index = byAsString.indexOf(": ");
+        String kind = byAsString.startsWith("By.") && index > 3 ? byAsString.substring(3, index) : "";
+        return TEMPLATES.computeIfAbsent(byAsString,
+                key -> new LocatorTemplate(by, kind, getByLocator(by), getByFunc(by)));
+    }
+
     public static By fillByTemplate(By by, Object... args) {
-        String byLocator = getByLocator(by);
-        try {
-            byLocator = format(byLocator, args);
-        } catch (Exception ex) {
-            throw new RuntimeException(getBadLocatorMsg(byLocator, args));
-        }
-        return getByFunc(by).apply(byLocator);
+        return getTemplate(by).fill(args);
     }
 
     public static By fillByMsgTemplate(By by, Object... args) {
-        String byLocator = getByLocator(by);
-        try {
-            byLocator = MessageFormat.format(byLocator, args);
-        } catch (Exception ex) {
-            throw new RuntimeException(getBadLocatorMsg(byLocator, args));
-        }
-        return getByFunc(by).apply(byLocator);
+        return getTemplate(by).fillMsg(args);
     }
 
     public static By copyBy(By by) {
-        String byLocator = getByLocator(by);
-        return getByFunc(by).apply(byLocator);
+        return getTemplate(by).copy();
     }
 
 
@@ -81,9 +86,10 @@ public class WebDriverByUtils {
     }
 
     public static String getByName(By by) {
-        Matcher m = Pattern.compile("By\\.(?<locator>.*):.*").matcher(by.toString());
-        if (m.find())
-            return m.group("locator");
+        String byAsString = by.toString();
+        int index = byAsString.indexOf(": ");
+        if (byAsString.startsWith("By.") && index > 3)
+            return byAsString.substring(3, index);
         throw new RuntimeException("Can't get By name for: " + by);
     }
 
@@ -99,4 +105,4 @@ public class WebDriverByUtils {
         map.put("By.xpath", By::xpath);
         return map;
     }
-}
\ No newline at end of file
+}
@@ -18,99 +18,88 @@
 
 package com.epam.jdi.uitests.web.selenium.elements;
 
-import com.epam.commons.LinqUtils;
 import com.epam.commons.pairs.Pairs;
 import com.epam.jdi.uitests.core.interfaces.base.IBaseElement;
-import com.epam.jdi.uitests.core.interfaces.base.IComposite;
 import com.epam.jdi.uitests.web.selenium.elements.apiInteract.ContextType;
 import com.epam.jdi.uitests.web.selenium.elements.composite.Site;
 import com.epam.jdi.uitests.web.selenium.elements.composite.WebPage;
-import com.epam.jdi.uitests.web.selenium.elements.pageobjects.annotations.Frame;
-import com.epam.jdi.uitests.web.selenium.elements.pageobjects.annotations.JFindBy;
-import com.epam.jdi.uitests.web.selenium.elements.pageobjects.annotations.JPage;
-import com.epam.jdi.uitests.web.selenium.elements.pageobjects.annotations.WebAnnotationsUtil;
 import org.openqa.selenium.By;
-import org.openqa.selenium.support.FindBy;
 
-import java.lang.reflect.Field;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-
-import static com.epam.commons.LinqUtils.foreach;
-import static com.epam.commons.ReflectionUtils.*;
 import static com.epam.commons.StringUtils.LINE_BREAK;
 import static com.epam.commons.TryCatchUtil.tryGetResult;
-import static com.epam.jdi.uitests.core.settings.JDIData.APP_VERSION;
 import static com.epam.jdi.uitests.core.settings.JDISettings.exception;
 import static java.lang.String.format;
-import static java.lang.reflect.Modifier.isStatic;
 
 /**
  * Created by Roman_Iovlev on 6/10/2015.
+ * Fields, locators and constructors of every page object class are read once (see ClassMetadata)
+ * or taken from initialiser generated at compile time, so initialisation of same pages in parallel
+ * threads doesn't use reflection and global lock
  */
 public abstract class CascadeInit implements IBaseElement {
+    /**
+     * Use initialisers generated by PageObjectsProcessor if they are in classpath
+     */
+    public static boolean useGeneratedInit = true;
 
-    public synchronized static void InitElements(Object parent, String driverName) {
+    public static void InitElements(Object parent, String driverName) {
         if (parent.getClass().getName().contains("$")) return;
-        Class<?> parentType = parent.getClass();
-
-        initSubElements(parent, driverName);
+        ClassMetadata metadata = ClassMetadata.of(parent.getClass());
 
-        if (isClass(parentType, WebPage.class) && parentType.isAnnotationPresent(JPage.class))
-            WebAnnotationsUtil.fillPageFromAnnotaiton((WebPage) parent, parentType.getAnnotation(JPage.class), null);
-    }
+        initSubElements(parent, metadata, driverName);
 
-    private static void initSubElements(Object parent, String driverName) {
-        foreach(deepGetFields(parent, IBaseElement.class),
-                field -> setElement(parent, field, driverName));
+        if (metadata.page != null)
+            metadata.page.accept((WebPage) parent, null);
     }
 
-    private static List<Field> deepGetFields(Class<?> clazz) {
-        List<Field> result = new ArrayList<>();
-        if (isInterface(clazz, IBaseElement.class))
-            result.addAll(deepGetFields(clazz.getSuperclass()));
-        result.addAll(Arrays.asList(clazz.getDeclaredFields()));
-        return result;
+    private static void initSubElements(Object parent, ClassMetadata metadata, String driverName) {
+        for (ElementField field : metadata.fields)
+            setElement(parent, field, driverName);
     }
 
-    private static List<Field> deepGetFields(Object obj, Class<?> type) {
-        return LinqUtils.where(deepGetFields(obj.getClass()), field -> !isStatic(field.getModifiers()) && (isClass(field, type) || isInterface(field, type)));
-    }
-    public synchronized static void initStaticPages(Class<?> parentType, String driverName) {
-        foreach(getStaticFields(parentType, BaseElement.class),
-                field -> setElement(parentType, field, driverName));
+    public static void initStaticPages(Class<?> parentType, String driverName) {
+        ClassMetadata metadata = ClassMetadata.ofStatic(parentType);
+        synchronized (parentType) {
+            for (ElementField field : metadata.fields)
+                setElement(parentType, field, driverName);
+        }
     }
 
-    public synchronized static <T extends Site> T initPages(Class<T>  site, String driverName) {
+    public static <T extends Site> T initPages(Class<T>  site, String driverName) {
         T instance = tryGetResult(site::newInstance);
         instance.setDriverName(driverName);
         InitElements(instance, driverName);
         return instance;
     }
 
-    private static void setElement(Class<?> parentType, Field field, String driverName) {
+    /**
+     * Drop cached page objects metadata (e.g. after MapInterfaceToElement update)
+     */
+    public static void clearMetadata() {
+        ClassMetadata.clear();
+    }
+
+    private static void setElement(Class<?> parentType, ElementField field, String driverName) {
         try {
-            Class<?> type = field.getType();
             BaseElement instance;
-            if (isClass(type, WebPage.class)) {
-                instance = (BaseElement) getValueField(field, null);
+            if (field.isPage) {
+                instance = (BaseElement) field.get(null);
                 if (instance == null)
-                    instance = (BaseElement) type.newInstance();
+                    instance = ClassMetadata.newInstance(field.type);
                 fillPage(instance, field, parentType);
             } else {
-                instance = createChildFromFieldStatic(parentType, field, type, driverName);
-                instance.function = WebAnnotationsUtil.getFunction(field);
+                instance = createChildFromFieldStatic(parentType, field, driverName);
+                instance.function = field.function;
             }
-            instance.setName(field);
+            instance.setName(field.name, field.varName);
             if (instance.getClass().getSimpleName().equals(""))
-                instance.setTypeName(type.getSimpleName());
+                instance.setTypeName(field.type.getSimpleName());
             instance.setParentName(parentType.getClass().getSimpleName());
             field.set(null, instance);
-            if (isInterface(field, IComposite.class))
+            if (field.isComposite)
                 InitElements(instance, driverName);
-        } catch (Exception ex) {
-            throw exception("Error in setElement for field '%s' with parent '%s'", field.getName(), parentType.getClass().getSimpleName() + LINE_BREAK + ex.getMessage());
+        } catch (Throwable ex) {
+            throw exception("Error in setElement for field '%s' with parent '%s'", field.varName, parentType.getClass().getSimpleName() + LINE_BREAK + ex.getMessage());
         }
     }
 
@@ -118,76 +107,71 @@ public abstract class CascadeInit implements IBaseElement {
         return obj == null ? "NULL Class" : obj.getClass().getSimpleName();
     }
 
-    private static void setElement(Object parent, Field field, String driverName) {
+    private static void setElement(Object parent, ElementField field, String driverName) {
         try {
-            Class<?> type = field.getType();
             BaseElement instance;
-            if (isClass(type, WebPage.class)) {
-                instance = (BaseElement) getValueField(field, parent);
+            if (field.isPage) {
+                instance = (BaseElement) field.get(parent);
                 if (instance == null)
-                    instance = (BaseElement) type.newInstance();
+                    instance = ClassMetadata.newInstance(field.type);
                 fillPage(instance, field, parent != null ? parent.getClass() : null);
             } else {
-                instance = createChildFromField(parent, field, type, driverName);
-                instance.function = WebAnnotationsUtil.getFunction(field);
+                instance = createChildFromField(parent, field, driverName);
+                instance.function = field.function;
             }
-            instance.setName(field);
+            instance.setName(field.name, field.varName);
             instance.avatar.setDriverName(driverName);
             if (instance.getClass().getSimpleName().equals(""))
-                instance.setTypeName(type.getSimpleName());
+                instance.setTypeName(field.type.getSimpleName());
             instance.setParentName(getClassName(parent));
             field.set(parent, instance);
-            if (isInterface(field, IComposite.class))
+            if (field.isComposite)
                 InitElements(instance, driverName);
-        } catch (Exception ex) {
-            throw exception("Error in setElement for field '%s' with parent '%s'", field.getName(),
+        } catch (Throwable ex) {
+            throw exception("Error in setElement for field '%s' with parent '%s'", field.varName,
                     getClassName(parent) + LINE_BREAK + ex.getMessage());
         }
     }
 
-    private static void fillPage(BaseElement instance, Field field, Class<?> parentType) {
-        if (field.isAnnotationPresent(JPage.class))
-            WebAnnotationsUtil.fillPageFromAnnotaiton((WebPage) instance, field.getAnnotation(JPage.class), parentType);
+    private static void fillPage(BaseElement instance, ElementField field, Class<?> parentType) {
+        if (field.page != null)
+            field.page.accept((WebPage) instance, parentType);
     }
 
-    private static BaseElement createChildFromFieldStatic(Class<?> parentClass, Field field, Class<?> type, String driverName) {
-        BaseElement instance = (BaseElement) getValueField(field, null);
+    private static BaseElement createChildFromFieldStatic(Class<?> parentClass, ElementField field, String driverName) {
+        BaseElement instance = (BaseElement) field.get(null);
         if (instance == null)
             try {
-                instance = getElementInstance(type, field.getName(), getNewLocator(field), driverName);
+                instance = getElementInstance(field.type, field.varName, field.getLocator(), driverName);
             } catch (Exception ex) {
                 throw exception(format("Can't create child for parent '%s' with type '%s'",
-                        parentClass.getSimpleName(), field.getType().getSimpleName()));
+                        parentClass.getSimpleName(), field.type.getSimpleName()));
             }
         else if (instance.getLocator() == null)
-            instance.avatar.byLocator = getNewLocator(field);
+            instance.avatar.byLocator = field.getLocator();
         instance.avatar.context = new Pairs<>();
-        By frameBy = WebAnnotationsUtil.getFrame(field.getDeclaredAnnotation(Frame.class));
-        if (frameBy != null)
-            instance.avatar.context.add(ContextType.Frame, frameBy);
+        if (field.frame != null)
+            instance.avatar.context.add(ContextType.Frame, field.frame);
         return instance;
     }
 
-    private static BaseElement createChildFromField(Object parent, Field field, Class<?> type, String driverName) {
-        BaseElement instance = (BaseElement) getValueField(field, parent);
+    private static BaseElement createChildFromField(Object parent, ElementField field, String driverName) {
+        BaseElement instance = (BaseElement) field.get(parent);
         if (instance == null)
             try {
-                instance = getElementInstance(type, field.getName(), getNewLocator(field), driverName);
+                instance = getElementInstance(field.type, field.varName, field.getLocator(), driverName);
             } catch (Exception ex) {
                 throw exception(
                         format("Can't create child for parent '%s' with type '%s'",
-                                parent.getClass().getSimpleName(), field.getType().getSimpleName()));
+                                parent.getClass().getSimpleName(), field.type.getSimpleName()));
             }
         else if (instance.getLocator() == null)
-            instance.avatar.byLocator = getNewLocator(field);
+            instance.avatar.byLocator = field.getLocator();
         instance.avatar.context = (isBaseElement(parent))
                 ? ((BaseElement) parent).avatar.context.copy()
                 : new Pairs<>();
-        if (type != null) {
-            By frameBy = WebAnnotationsUtil.getFrame(type.getDeclaredAnnotation(Frame.class));
-            if (frameBy != null)
-                instance.avatar.context.add(ContextType.Frame, frameBy);
-        }
+        if (field.typeFrame != null)
+            instance.avatar.context.add(ContextType.Frame, field.typeFrame);
         if (isBaseElement(parent)) {
             By parentLocator = ((BaseElement) parent).getLocator();
             if (parentLocator != null)
@@ -197,44 +181,26 @@ public abstract class CascadeInit implements IBaseElement {
     }
 
     private static boolean isBaseElement(Object obj) {
-        return isClass(obj.getClass(), BaseElement.class);
+        return obj instanceof BaseElement;
     }
 
     private static BaseElement getElementInstance(Class<?> type, String fieldName, By newLocator, String driverName) {
         try {
             if (!type.isInterface()) {
-                BaseElement instance = (BaseElement) type.newInstance();
+                BaseElement instance = ClassMetadata.newInstance(type);
                 instance.avatar.byLocator = newLocator;
                 instance.avatar.setDriverName(driverName);
                 return instance;
             }
             Class classType = MapInterfaceToElement.getClassFromInterface(type);
             if (classType != null)
-                return (BaseElement) classType.getDeclaredConstructor(By.class).newInstance(newLocator);
+                return ClassMetadata.newInstance(classType, newLocator);
             throw exception("Unknown interface: " + type +
                     ". Add relation interface -> class in VIElement.InterfaceTypeMap");
-        } catch (Exception ex) {
+        } catch (Throwable ex) {
             throw exception("Error in getElementInstance for field '%s' with type '%s'", fieldName, type.getSimpleName() +
                     LINE_BREAK + ex.getMessage());
         }
     }
 
-    private static By getNewLocator(Field field) {
-        try {
-            By byLocator = null;
-            String locatorGroup = APP_VERSION;
-            if (locatorGroup != null) {
-                JFindBy jFindBy = field.getAnnotation(JFindBy.class);
-                if (jFindBy != null && locatorGroup.equals(jFindBy.group()))
-                    byLocator = WebAnnotationsUtil.getFindByLocator(jFindBy);
-            }
-            return (byLocator != null)
-                    ? byLocator
-                    : WebAnnotationsUtil.getFindByLocator(field.getAnnotation(FindBy.class));
-        } catch (Exception ex) {
-            throw exception("Error in get locator for type '%s'", field.getType().getName() +
-                    LINE_BREAK + ex.getMessage());
-        }
-    }
-
-}
\ No newline at end of file
+}
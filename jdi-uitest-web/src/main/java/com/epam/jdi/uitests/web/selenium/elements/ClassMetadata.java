@@ -0,0 +1,200 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.jdi.uitests.web.selenium.elements;
+
+import com.epam.jdi.uitests.core.interfaces.base.IBaseElement;
+import com.epam.jdi.uitests.core.interfaces.base.IComposite;
+import com.epam.jdi.uitests.web.selenium.elements.composite.WebPage;
+import com.epam.jdi.uitests.web.selenium.elements.pageobjects.annotations.Frame;
+import com.epam.jdi.uitests.web.selenium.elements.pageobjects.annotations.JFindBy;
+import com.epam.jdi.uitests.web.selenium.elements.pageobjects.annotations.JPage;
+import com.epam.jdi.uitests.web.selenium.elements.pageobjects.annotations.WebAnnotationsUtil;
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.FindBy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+import static com.epam.commons.ReflectionUtils.isClass;
+import static com.epam.commons.ReflectionUtils.isInterface;
+import static com.epam.commons.StringUtils.LINE_BREAK;
+import static com.epam.jdi.uitests.core.settings.JDISettings.exception;
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isStatic;
+
+/**
+ * Page object fields, locators and constructors read once per class and reused by CascadeInit.
+ * Taken from generated IPageObjectInit if exists, otherwise by reflection
+ */
+class ClassMetadata {
+    private static final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    private static final Map<Class<?>, ClassMetadata> instanceFields = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ClassMetadata> staticFields = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, MethodHandle> constructors = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, MethodHandle> locatorConstructors = new ConcurrentHashMap<>();
+
+    final List<ElementField> fields;
+    final BiConsumer<WebPage, Class<?>> page;
+
+    private ClassMetadata(List<ElementField> fields, BiConsumer<WebPage, Class<?>> page) {
+        this.fields = fields;
+        this.page = page;
+    }
+
+    static ClassMetadata of(Class<?> type) {
+        return instanceFields.computeIfAbsent(type, t -> {
+            IPageObjectInit generated = generatedInit(t);
+            return generated != null
+                    ? new ClassMetadata(generated.fields(), generated.page())
+                    : new ClassMetadata(elementFields(t, false), pageFromAnnotation(t));
+        });
+    }
+
+    static ClassMetadata ofStatic(Class<?> type) {
+        return staticFields.computeIfAbsent(type, t -> {
+            IPageObjectInit generated = generatedInit(t);
+            return new ClassMetadata(generated != null
+                    ? generated.staticFields()
+                    : elementFields(t, true), null);
+        });
+    }
+
+    static void clear() {
+        instanceFields.clear();
+        staticFields.clear();
+        constructors.clear();
+        locatorConstructors.clear();
+    }
+
+    static BaseElement newInstance(Class<?> type) throws Throwable {
+        return (BaseElement) constructors.computeIfAbsent(type,
+                t -> constructor(t, methodType(void.class))).invoke();
+    }
+
+    static BaseElement newInstance(Class<?> type, By locator) throws Throwable {
+        return (BaseElement) locatorConstructors.computeIfAbsent(type,
+                t -> constructor(t, methodType(void.class, By.class))).invoke(locator);
+    }
+
+    private static IPageObjectInit generatedInit(Class<?> type) {
+        if (!CascadeInit.useGeneratedInit)
+            return null;
+        try {
+            return (IPageObjectInit) Class.forName(IPageObjectInit.initClassName(type.getName()), true, type.getClassLoader())
+                    .newInstance();
+        } catch (ClassNotFoundException | LinkageError ex) {
+            return null;
+        } catch (Exception ex) {
+            throw exception("Can't create generated initialiser for '%s'", type.getSimpleName() + LINE_BREAK + ex.getMessage());
+        }
+    }
+
+    private static BiConsumer<WebPage, Class<?>> pageFromAnnotation(Class<?> type) {
+        JPage jPage = isClass(type, WebPage.class) ? type.getAnnotation(JPage.class) : null;
+        return jPage != null
+                ? (page, parentClass) -> WebAnnotationsUtil.fillPageFromAnnotaiton(page, jPage, parentClass)
+                : null;
+    }
+
+    private static MethodHandle constructor(Class<?> type, MethodType methodType) {
+        try {
+            return lookup.findConstructor(type, methodType).asType(methodType.changeReturnType(Object.class));
+        } catch (Exception ex) {
+            throw exception("Can't get constructor for type '%s'", type.getSimpleName() + LINE_BREAK + ex.getMessage());
+        }
+    }
+
+    private static List<ElementField> elementFields(Class<?> type, boolean staticFields) {
+        List<ElementField> result = new ArrayList<>();
+        for (Field field : staticFields ? Arrays.asList(type.getDeclaredFields()) : deepGetFields(type))
+            if (isStatic(field.getModifiers()) == staticFields
+                    && (isClass(field, staticFields ? BaseElement.class : IBaseElement.class)
+                    || isInterface(field, staticFields ? BaseElement.class : IBaseElement.class)))
+                result.add(elementField(field));
+        return result;
+    }
+
+    private static List<Field> deepGetFields(Class<?> clazz) {
+        List<Field> result = new ArrayList<>();
+        if (isInterface(clazz, IBaseElement.class))
+            result.addAll(deepGetFields(clazz.getSuperclass()));
+        result.addAll(Arrays.asList(clazz.getDeclaredFields()));
+        return result;
+    }
+
+    private static ElementField elementField(Field field) {
+        MethodHandle getter;
+        MethodHandle setter;
+        try {
+            field.setAccessible(true);
+            MethodHandle get = lookup.unreflectGetter(field);
+            MethodHandle set = lookup.unreflectSetter(field);
+            if (isStatic(field.getModifiers())) {
+                getter = MethodHandles.dropArguments(get.asType(methodType(Object.class)), 0, Object.class);
+                setter = MethodHandles.dropArguments(set.asType(methodType(void.class, Object.class)), 0, Object.class);
+            } else {
+                getter = get.asType(methodType(Object.class, Object.class));
+                setter = set.asType(methodType(void.class, Object.class, Object.class));
+            }
+        } catch (IllegalAccessException ex) {
+            throw exception("Can't access field '%s'", field.getName() + LINE_BREAK + ex.getMessage());
+        }
+        ElementField result = new ElementField(field.getName(), WebAnnotationsUtil.getElementName(field), field.getType(),
+                parent -> {
+                    try {
+                        return (Object) getter.invokeExact(parent);
+                    } catch (Throwable ex) {
+                        throw new RuntimeException(String.format("Can't get field '%s' value", field.getName()));
+                    }
+                },
+                (parent, value) -> {
+                    try {
+                        setter.invokeExact(parent, value);
+                    } catch (Throwable ex) {
+                        throw new RuntimeException(String.format("Can't set field '%s' value", field.getName()), ex);
+                    }
+                })
+                .function(WebAnnotationsUtil.getFunction(field))
+                .frame(WebAnnotationsUtil.getFrame(field.getDeclaredAnnotation(Frame.class)))
+                .typeFrame(WebAnnotationsUtil.getFrame(field.getType().getDeclaredAnnotation(Frame.class)));
+        try {
+            JFindBy jFindBy = field.getAnnotation(JFindBy.class);
+            if (jFindBy != null)
+                result.locator(WebAnnotationsUtil.getFindByLocator(jFindBy), jFindBy.group());
+            result.locator(WebAnnotationsUtil.getFindByLocator(field.getAnnotation(FindBy.class)));
+        } catch (Exception ex) {
+            throw exception("Error in get locator for type '%s'", field.getType().getName() +
+                    LINE_BREAK + ex.getMessage());
+        }
+        JPage jPage = field.getAnnotation(JPage.class);
+        if (jPage != null)
+            result.page((page, parentClass) -> WebAnnotationsUtil.fillPageFromAnnotaiton(page, jPage, parentClass));
+        if (isInterface(field, IComposite.class))
+            result.composite();
+        return result;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.jdi.uitests.web.selenium.elements;
+
+import com.epam.jdi.uitests.core.annotations.functions.Functions;
+import com.epam.jdi.uitests.web.selenium.elements.composite.WebPage;
+import org.openqa.selenium.By;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static com.epam.commons.ReflectionUtils.isClass;
+import static com.epam.jdi.uitests.core.settings.JDIData.APP_VERSION;
+
+/**
+ * Element field of page object: how to get/set it and data from its annotations.<br>
+ * Created by reflection (ClassMetadata) or by code generated with PageObjectsProcessor
+ */
+public class ElementField {
+    public final String varName;
+    public final String name;
+    public final Class<?> type;
+    final boolean isPage;
+    boolean isComposite;
+    Functions function = Functions.NONE;
+    By frame;
+    By typeFrame;
+    BiConsumer<WebPage, Class<?>> page;
+    private By locator;
+    private By groupLocator;
+    private String group;
+    private final Function<Object, Object> getter;
+    private final BiConsumer<Object, Object> setter;
+
+    /**
+     * @param varName Specify field name
+     * @param name    Specify element name (@Name or field name split by words)
+     * @param type    Specify field type
+     * @param getter  Specify how to get field value from parent (parent is null for static fields)
+     * @param setter  Specify how to set field value to parent (parent is null for static fields)
+     */
+    public ElementField(String varName, String name, Class<?> type,
+                        Function<Object, Object> getter, BiConsumer<Object, Object> setter) {
+        this.varName = varName;
+        this.name = name;
+        this.type = type;
+        this.getter = getter;
+        this.setter = setter;
+        isPage = isClass(type, WebPage.class);
+    }
+
+    /**
+     * @param locator Specify @FindBy locator
+     */
+    public ElementField locator(By locator) {
+        this.locator = locator;
+        return this;
+    }
+
+    /**
+     * @param locator Specify @JFindBy locator
+     * @param group   Specify @JFindBy group: locator used if it equals to APP_VERSION
+     */
+    public ElementField locator(By locator, String group) {
+        this.groupLocator = locator;
+        this.group = group;
+        return this;
+    }
+
+    /**
+     * @param frame Specify @Frame of field (for static fields)
+     */
+    public ElementField frame(By frame) {
+        this.frame = frame;
+        return this;
+    }
+
+    /**
+     * @param frame Specify @Frame of field type
+     */
+    public ElementField typeFrame(By frame) {
+        this.typeFrame = frame;
+        return this;
+    }
+
+    public ElementField function(Functions function) {
+        this.function = function;
+        return this;
+    }
+
+    /**
+     * @param fillPage Specify how to fill page data from @JPage of field
+     */
+    public ElementField page(BiConsumer<WebPage, Class<?>> fillPage) {
+        this.page = fillPage;
+        return this;
+    }
+
+    public ElementField composite() {
+        this.isComposite = true;
+        return this;
+    }
+
+    By getLocator() {
+        return groupLocator != null && APP_VERSION != null && APP_VERSION.equals(group)
+                ? groupLocator
+                : locator;
+    }
+
+    Object get(Object parent) {
+        return getter.apply(parent);
+    }
+
+    void set(Object parent, Object value) {
+        setter.accept(parent, value);
+    }
+}
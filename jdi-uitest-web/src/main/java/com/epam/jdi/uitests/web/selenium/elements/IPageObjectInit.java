@@ -0,0 +1,57 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.jdi.uitests.web.selenium.elements;
+
+import com.epam.jdi.uitests.web.selenium.elements.composite.WebPage;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Page object initialiser generated by PageObjectsProcessor (class &lt;PageObject&gt;_JDIInit,
+ * &lt;Outer&gt;_&lt;Nested&gt;_JDIInit for nested classes).
+ * Used by CascadeInit instead of reflection if exists
+ */
+public interface IPageObjectInit {
+    String SUFFIX = "_JDIInit";
+
+    /**
+     * @param binaryName Specify binary name of page object class (Class.getName())
+     * @return Binary name of generated initialiser: it is top level class in the same package
+     */
+    static String initClassName(String binaryName) {
+        int packageEnd = binaryName.lastIndexOf('.') + 1;
+        return binaryName.substring(0, packageEnd) + binaryName.substring(packageEnd).replace('$', '_') + SUFFIX;
+    }
+
+    /**
+     * @return Not static element fields including fields of parent classes
+     */
+    List<ElementField> fields();
+
+    /**
+     * @return Static element fields (pages of site)
+     */
+    List<ElementField> staticFields();
+
+    /**
+     * @return How to fill page data from @JPage of class or null
+     */
+    BiConsumer<WebPage, Class<?>> page();
+}
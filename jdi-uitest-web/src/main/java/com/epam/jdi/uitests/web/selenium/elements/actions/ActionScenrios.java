@@ -24,12 +24,14 @@ import com.epam.commons.linqinterfaces.JAction;
 import com.epam.jdi.uitests.core.logger.LogLevels;
 import com.epam.jdi.uitests.core.settings.JDISettings;
 import com.epam.jdi.uitests.web.selenium.elements.BaseElement;
+import org.openqa.selenium.StaleElementReferenceException;
 
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static com.epam.jdi.uitests.core.reporting.PerformanceStatistic.addStatistic;
 import static com.epam.jdi.uitests.core.settings.JDISettings.*;
+import static com.epam.jdi.uitests.web.WebSettings.getDriverFactory;
 import static java.lang.String.format;
 
 /**
@@ -47,11 +49,18 @@ public class ActionScenrios {
         element.logAction(actionName, logSettings);
         Timer timer = new Timer();
         new Timer(timeouts.currentTimeoutSec).wait(() -> {
-            jAction.invoke();
+            try {
+                jAction.invoke();
+            } catch (StaleElementReferenceException ex) {
+                element.avatar.dropCache();
+                throw ex;
+            }
             return true;
         });
+        if (element.avatar != null)
+            getDriverFactory().elementsCache.actionDone(element.avatar.getDriverName());
         logger.info(actionName + " done");
-        addStatistic(timer.timePassedInMSec());
+        addStatistic(element.getClass().getSimpleName(), actionName, timer.timePassedInMSec());
     }
 
     public <TResult> TResult resultScenario(String actionName, Supplier<TResult> jAction, Function<TResult, String> logResult, LogLevels level) {
@@ -60,19 +69,27 @@ public class ActionScenrios {
         TResult result;
         try {
             result = new Timer(timeouts.currentTimeoutSec)
-                    .getResultByCondition(jAction::get, res -> true);
+                    .getResultByCondition(() -> getResult(jAction), res -> true);
         } catch (Exception|Error ex) {
             throw asserter.exception("Do action %s failed. Can't got result. Reason: %s", actionName, ex.getMessage());
         }
         if (result == null)
             throw asserter.exception("Do action %s failed. Can't got result", actionName);
-        String stringResult = (logResult == null)
-                ? result.toString()
-                : JDISettings.asserter.silent(() -> logResult.apply(result));
         Long timePassed = timer.timePassedInMSec();
-        addStatistic(timer.timePassedInMSec());
-        toLog(format("Get result '%s' in %s seconds", stringResult,
+        addStatistic(element.getClass().getSimpleName(), actionName, timePassed);
+        toLog(() -> format("Get result '%s' in %s seconds", (logResult == null)
+                        ? result.toString()
+                        : JDISettings.asserter.silent(() -> logResult.apply(result)),
                 format("%.2f", (double) timePassed / 1000)), level);
         return result;
     }
+
+    private <TResult> TResult getResult(Supplier<TResult> jAction) {
+        try {
+            return jAction.get();
+        } catch (StaleElementReferenceException ex) {
+            element.avatar.dropCache();
+            throw ex;
+        }
+    }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ package com.epam.jdi.uitests.web.selenium.elements.actions;
 
 import com.epam.commons.linqinterfaces.JAction;
 import com.epam.jdi.uitests.web.selenium.elements.BaseElement;
+import com.epam.jdi.uitests.web.selenium.elements.apiInteract.GetElementModule;
 import org.openqa.selenium.WebElement;
 
 import java.util.ArrayList;
@@ -32,6 +33,7 @@ import static com.epam.commons.LinqUtils.where;
 import static com.epam.commons.PrintUtils.print;
 import static com.epam.commons.Timer.getByCondition;
 import static com.epam.jdi.uitests.core.settings.JDISettings.asserter;
+import static com.epam.jdi.uitests.web.selenium.elements.apiInteract.BrowserWaits.waitFor;
 import static java.lang.String.format;
 import static java.lang.String.join;
 
@@ -87,12 +89,12 @@ public class ElementsActions {
 
     public String waitText(String text, Supplier<String> getTextAction) {
         return invoker().doJActionResult(format("Wait text contains '%s'", text),
-                () -> getByCondition(getTextAction::get, t -> t.contains(text)));
+                () -> waitFor(element, "text", text, () -> getByCondition(getTextAction::get, t -> t.contains(text))));
     }
 
     public String waitMatchText(String regEx, Supplier<String> getTextAction) {
         return invoker().doJActionResult(format("Wait text match regex '%s'", regEx),
-                () -> getByCondition(getTextAction::get, t -> t.matches(regEx)));
+                () -> waitFor(element, "matchText", regEx, () -> getByCondition(getTextAction::get, t -> t.matches(regEx))));
     }
 
     // Check/Select Actions
@@ -183,6 +185,10 @@ public class ElementsActions {
                 where(getNames.get(), waitSelectedAction));
     }
 
+    public List<String> areSelected(Supplier<List<String>> areSelectedAction) {
+        return invoker().doJActionResult("Are selected", areSelectedAction);
+    }
+
     public void waitSelected(Function<String, Boolean> waitSelectedAction, String... names) {
         boolean result = invoker().doJActionResult(String.format("Are deselected '%s'", print(names)), () -> {
             for (String name : names)
@@ -212,7 +218,7 @@ public class ElementsActions {
     public <T> T findImmediately(Supplier<T> func, T ifError) {
         element.setWaitTimeout(0);
         Function<WebElement, Boolean> temp = element.avatar.localElementSearchCriteria;
-        element.avatar.localElementSearchCriteria = el -> true;
+        element.avatar.localElementSearchCriteria = GetElementModule.anyElement;
         T result;
         try {
             result = func.get();
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.jdi.uitests.web.selenium.elements.apiInteract;
+
+import com.epam.commons.Timer;
+import com.epam.jdi.uitests.web.selenium.elements.BaseElement;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.epam.jdi.uitests.core.settings.JDISettings.logger;
+import static com.epam.jdi.uitests.core.settings.JDISettings.timeouts;
+import static com.epam.jdi.uitests.web.WebSettings.getDriverFactory;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Waits inside browser: one async script watches DOM mutations and returns as soon as condition holds.
+ * Conditions: displayed, vanished, attribute ([name, value]), text (contains), matchText (regex)
+ */
+public final class BrowserWaits {
+    private static final String WAIT_SCRIPT = ScriptLocator.FUNCTIONS +
+            "var chain = arguments[0], condition = arguments[1], expected = arguments[2], timeout = arguments[3],\n" +
+            "    done = arguments[arguments.length - 1];\n" +
+            "var textOf = function(el) {\n" +
+            "  return /^(input|textarea)$/i.test(el.tagName) ? el.value : el.innerText || el.textContent || '';\n" +
+            "};\n" +
+            "var pattern = null;\n" +
+            "try {\n" +
+            "  if (condition === 'matchText') pattern = new RegExp('^(?:' + expected + ')$');\n" +
+            "} catch (ex) { return done(null); }\n" +
+            "var check = function() {\n" +
+            "  if (condition === 'vanished') return jdiFindAll(chain).length === 0;\n" +
+            "  var el = jdiFind(chain);\n" +
+            "  if (!el) return false;\n" +
+            "  switch (condition) {\n" +
+            "    case 'attribute': return el.getAttribute(expected[0]) === expected[1];\n" +
+            "    case 'text': return textOf(el).indexOf(expected) >= 0;\n" +
+            "    case 'matchText': return pattern.test(textOf(el));\n" +
+            "  }\n" +
+            "  return true;\n" +
+            "};\n" +
+            "if (check()) return done(true);\n" +
+            "if (!window.MutationObserver) return done(null);\n" +
+            "var finished = false, scheduled = false, observer, poll, timer;\n" +
+            "var finish = function(result) {\n" +
+            "  if (finished) return;\n" +
+            "  finished = true;\n" +
+            "  observer.disconnect();\n" +
+            "  clearInterval(poll);\n" +
+            "  clearTimeout(timer);\n" +
+            "  done(result);\n" +
+            "};\n" +
+            "var schedule = function() {\n" +
+            "  if (scheduled || finished) return;\n" +
+            "  scheduled = true;\n" +
+            "  (window.requestAnimationFrame || setTimeout)(function() {\n" +
+            "    scheduled = false;\n" +
+            "    if (check()) finish(true);\n" +
+            "  });\n" +
+            "};\n" +
+            "observer = new MutationObserver(schedule);\n" +
+            "observer.observe(document.documentElement, {childList: true, subtree: true, attributes: true, characterData: true});\n" +
+            "poll = setInterval(schedule, 250);\n" +
+            "timer = setTimeout(function() { finish(check()); }, timeout);";
+
+    private BrowserWaits() {
+    }
+
+    /**
+     * @param element    Specify element
+     * @param condition  Specify condition checked in browser
+     * @param expected   Specify expected value for condition
+     * @param waitAction Specify wait done by driver commands
+     * @return Result of waitAction: after browser saw condition it succeeds at once, after browser timeout
+     * it makes one attempt, if browser wait can't be used it waits as usual
+     */
+    public static <T> T waitFor(BaseElement element, String condition, Object expected, Supplier<T> waitAction) {
+        Boolean reached = waitInBrowser(element, condition, expected);
+        return reached == null || reached
+                ? waitAction.get()
+                : Timer.limitWaits(0, waitAction);
+    }
+
+    /**
+     * @return true if condition holds, false if timeout passed, null if browser wait can't be used for element.
+     * Wait lasts no longer than outer wait in this thread; script timeout of driver is set back
+     * after it only if SeleniumDriverFactory.scriptTimeoutMs is set
+     */
+    public static Boolean waitInBrowser(BaseElement element, String condition, Object expected) {
+        if (!getDriverFactory().browserWaits || element.avatar == null)
+            return null;
+        List<List<String>> locator = element.avatar.scriptLocator();
+        if (locator == null || !(element.avatar.getDriver() instanceof JavascriptExecutor))
+            return null;
+        long timeout = Timer.remainingTimeout(timeouts.currentTimeoutSec * 1000L);
+        if (timeout == 0)
+            return false;
+        try {
+            WebDriver driver = element.avatar.getDefaultContent();
+            driver.manage().timeouts().setScriptTimeout(timeout + 5000, MILLISECONDS);
+            try {
+                return (Boolean) ((JavascriptExecutor) driver).executeAsyncScript(WAIT_SCRIPT, locator, condition, expected, timeout);
+            } finally {
+                Long scriptTimeout = getDriverFactory().scriptTimeoutMs;
+                if (scriptTimeout != null)
+                    driver.manage().timeouts().setScriptTimeout(scriptTimeout, MILLISECONDS);
+            }
+        } catch (WebDriverException ex) {
+            logger.debug("Can't wait {} in browser: {}", condition, ex.getMessage());
+            return null;
+        }
+    }
+}
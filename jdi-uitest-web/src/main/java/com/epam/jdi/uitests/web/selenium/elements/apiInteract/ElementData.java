@@ -0,0 +1,208 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.epam.jdi.uitests.web.selenium.elements.apiInteract;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsDriver;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.epam.commons.LinqUtils.select;
+import static com.epam.jdi.uitests.core.settings.JDISettings.exception;
+import static com.epam.jdi.uitests.core.settings.JDISettings.logger;
+import static com.epam.jdi.uitests.web.WebSettings.getDriverFactory;
+import static java.util.Arrays.asList;
+
+/**
+ * Text, value, selected/checked state and requested attributes of element read together with other elements of list.
+ * Whole list is read by one script; if script can't be used every element is read by driver commands.
+ * Options with given texts are found in list by one script as well (see find).
+ * Reading is turned on by 'elements.bulkread' property and finding by 'elements.bulkfind' property
+ */
+public final class ElementData {
+    private static final String ROW_FUNCTIONS = ScriptLocator.FUNCTIONS +
+            "var names = arguments[1];\n" +
+            "var textOf = function(el) {\n" +
+            "  if (!jdiDisplayed(el)) return '';\n" +
+            "  return (el.innerText || el.textContent || '').replace(/\\u00a0/g, ' ').split('\\n')\n" +
+            "    .map(function(line) { return line.replace(/\\s+/g, ' ').trim(); }).join('\\n').trim();\n" +
+            "};\n" +
+            "var attributeOf = function(el, name) {\n" +
+            "  var value = el[name];\n" +
+            "  if (value === undefined || value === null || typeof value === 'object' || typeof value === 'function')\n" +
+            "    value = el.getAttribute(name);\n" +
+            "  if (typeof value === 'boolean') return value ? 'true' : null;\n" +
+            "  return value === undefined || value === null ? null : String(value);\n" +
+            "};\n" +
+            "var rowOf = function(el, text) {\n" +
+            "  return [text, attributeOf(el, 'value'), !!(el.selected || el.checked), el.checked === true,\n" +
+            "    jdiDisplayed(el), names.map(function(name) { return attributeOf(el, name); }), el];\n" +
+            "};\n";
+    private static final String READ_SCRIPT = ROW_FUNCTIONS +
+            "return arguments[0].map(function(el) { return rowOf(el, textOf(el)); });";
+    private static final String FIND_SCRIPT = ROW_FUNCTIONS +
+            "var elements = arguments[0], texts = arguments[2], left = texts.length;\n" +
+            "var found = texts.map(function() { return null; });\n" +
+            "for (var i = 0; i < elements.length && left > 0; i++) {\n" +
+            "  var text = textOf(elements[i]);\n" +
+            "  for (var j = 0; j < texts.length; j++)\n" +
+            "    if (found[j] === null && texts[j] === text) {\n" +
+            "      found[j] = rowOf(elements[i], text);\n" +
+            "      left--;\n" +
+            "    }\n" +
+            "}\n" +
+            "return found;";
+
+    public final WebElement element;
+    public final String text;
+    public final String value;
+    public final boolean selected;
+    public final boolean checked;
+    public final boolean displayed;
+    private final Map<String, String> attributes;
+
+    private ElementData(WebElement element, String text, String value, boolean selected, boolean checked,
+                        boolean displayed, Map<String, String> attributes) {
+        this.element = element;
+        this.text = text;
+        this.value = value;
+        this.selected = selected;
+        this.checked = checked;
+        this.displayed = displayed;
+        this.attributes = attributes;
+    }
+
+    /**
+     * @param name Specify attribute requested in read
+     * @return Attribute value as WebElement.getAttribute returns it
+     */
+    public String getAttribute(String name) {
+        if (!attributes.containsKey(name))
+            throw exception("Attribute '%s' was not read", name);
+        return attributes.get(name);
+    }
+
+    /**
+     * @param elements   Specify elements found in current context of driver
+     * @param attributes Specify attributes to read besides text, value and selected state
+     * @return Data of elements in the same order
+     */
+    public static List<ElementData> read(List<WebElement> elements, String... attributes) {
+        if (elements.isEmpty())
+            return new ArrayList<>();
+        List<Object> rows = execute(getDriverFactory().bulkRead, READ_SCRIPT, elements, attributes, null);
+        return rows != null
+                ? select(rows, row -> toData(row, attributes))
+                : select(elements, el -> readElement(el, el.getText(), attributes));
+    }
+
+    public static List<String> texts(List<WebElement> elements) {
+        if (elements.isEmpty())
+            return new ArrayList<>();
+        List<Object> rows = execute(getDriverFactory().bulkRead, READ_SCRIPT, elements, new String[0], null);
+        return rows != null
+                ? select(rows, row -> toData(row).text)
+                : select(elements, WebElement::getText);
+    }
+
+    public static List<String> attributes(List<WebElement> elements, String name) {
+        if (elements.isEmpty())
+            return new ArrayList<>();
+        List<Object> rows = execute(getDriverFactory().bulkRead, READ_SCRIPT, elements, new String[]{name}, null);
+        return rows != null
+                ? select(rows, row -> toData(row, name).getAttribute(name))
+                : select(elements, el -> el.getAttribute(name));
+    }
+
+    /**
+     * @param elements Specify elements found in current context of driver
+     * @param text     Specify text of element
+     * @return Data of first element with text or null if there is no such element
+     */
+    public static ElementData find(List<WebElement> elements, String text) {
+        return find(elements, new String[]{text}).get(0);
+    }
+
+    /**
+     * @param elements Specify elements found in current context of driver
+     * @param texts    Specify texts of elements
+     * @return Data of first element with every text (null for text that was not found) in order of texts
+     */
+    public static List<ElementData> find(List<WebElement> elements, String... texts) {
+        List<ElementData> result = new ArrayList<>();
+        if (elements.isEmpty()) {
+            for (String ignore : texts)
+                result.add(null);
+            return result;
+        }
+        List<Object> rows = execute(getDriverFactory().bulkFind, FIND_SCRIPT, elements, new String[0], asList(texts));
+        if (rows != null && rows.size() == texts.length)
+            return select(rows, row -> row == null ? null : toData(row));
+        List<String> elementsTexts = new ArrayList<>();
+        for (String text : texts) {
+            int index = elementsTexts.indexOf(text);
+            while (index < 0 && elementsTexts.size() < elements.size()) {
+                elementsTexts.add(elements.get(elementsTexts.size()).getText());
+                if (text.equals(elementsTexts.get(elementsTexts.size() - 1)))
+                    index = elementsTexts.size() - 1;
+            }
+            result.add(index < 0 ? null : readElement(elements.get(index), text));
+        }
+        return result;
+    }
+
+    private static List<Object> execute(boolean enabled, String script, List<WebElement> elements, String[] attributes, List<String> texts) {
+        WebDriver driver = elements.get(0) instanceof WrapsDriver
+                ? ((WrapsDriver) elements.get(0)).getWrappedDriver()
+                : null;
+        if (!enabled || !(driver instanceof JavascriptExecutor))
+            return null;
+        List<Object> rows;
+        try {
+            rows = (List<Object>) ((JavascriptExecutor) driver).executeScript(script, elements, asList(attributes), texts);
+        } catch (WebDriverException ex) {
+            logger.debug("Can't read elements by script: {}", ex.getMessage());
+            return null;
+        }
+        return rows != null && (texts != null || rows.size() == elements.size()) ? rows : null;
+    }
+
+    private static ElementData toData(Object row, String... attributes) {
+        List<Object> data = (List<Object>) row;
+        List<Object> values = (List<Object>) data.get(5);
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < attributes.length; i++)
+            map.put(attributes[i], (String) values.get(i));
+        return new ElementData((WebElement) data.get(6), (String) data.get(0), (String) data.get(1),
+                (Boolean) data.get(2), (Boolean) data.get(3), (Boolean) data.get(4), map);
+    }
+
+    private static ElementData readElement(WebElement element, String text, String... attributes) {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (String attribute : attributes)
+            map.put(attribute, element.getAttribute(attribute));
+        return new ElementData(element, text, element.getAttribute("value"), element.isSelected(),
+                "true".equals(element.getAttribute("checked")), element.isDisplayed(), map);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.jdi.uitests.web.selenium.elements.apiInteract;
+
+import org.openqa.selenium.WebElement;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Cache of resolved WebElements per driver.
+ * Every driver has its own DOM generation: navigation, frame switch or stale element
+ * increments generation and all elements found before become invalid
+ */
+public class ElementsCache {
+    public boolean enabled = false;
+    private final Map<String, DriverElements> drivers = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public WebElement get(String driverName, String key) {
+        if (!enabled) return null;
+        DriverElements driverElements = drivers.get(driverName);
+        CachedElement cached = driverElements != null ? driverElements.elements.get(key) : null;
+        if (cached == null || cached.generation != driverElements.generation.get()) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return cached.element;
+    }
+
+    public void put(String driverName, String key, WebElement element) {
+        if (!enabled || element == null) return;
+        DriverElements driverElements = driverElements(driverName);
+        driverElements.elements.put(key, new CachedElement(element, driverElements.generation.get()));
+    }
+
+    /**
+     * @param driverName Specify driver
+     * @param framePath  Specify frames chain selected in driver after search
+     * Invalidates driver elements if selected frame changed
+     */
+    public void switchFrame(String driverName, String framePath) {
+        if (!enabled) return;
+        DriverElements driverElements = driverElements(driverName);
+        if (framePath.equals(driverElements.framePath)) return;
+        driverElements.framePath = framePath;
+        driverElements.generation.incrementAndGet();
+    }
+
+    /**
+     * @param driverName Specify driver
+     * @return Version of driver page: changes after navigation, frame switch, stale element and every action
+     */
+    public long pageVersion(String driverName) {
+        DriverElements driverElements = driverElements(driverName);
+        return driverElements.generation.get() + driverElements.actions.get();
+    }
+
+    public void actionDone(String driverName) {
+        driverElements(driverName).actions.incrementAndGet();
+    }
+
+    public void invalidate(String driverName) {
+        DriverElements driverElements = drivers.get(driverName);
+        if (driverElements == null) return;
+        driverElements.generation.incrementAndGet();
+        driverElements.elements.clear();
+    }
+
+    public void invalidateAll() {
+        drivers.keySet().forEach(this::invalidate);
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    public void resetStatistic() {
+        hits.set(0);
+        misses.set(0);
+    }
+
+    private DriverElements driverElements(String driverName) {
+        return drivers.computeIfAbsent(driverName, name -> new DriverElements());
+    }
+
+    @Override
+    public String toString() {
+        return format("Elements cache: hits %s; misses %s", hits(), misses());
+    }
+
+    private static class DriverElements {
+        private final Map<String, CachedElement> elements = new ConcurrentHashMap<>();
+        private final AtomicLong generation = new AtomicLong();
+        private final AtomicLong actions = new AtomicLong();
+        private volatile String framePath = "";
+    }
+
+    private static class CachedElement {
+        private final WebElement element;
+        private final long generation;
+
+        private CachedElement(WebElement element, long generation) {
+            this.element = element;
+            this.generation = generation;
+        }
+    }
+}
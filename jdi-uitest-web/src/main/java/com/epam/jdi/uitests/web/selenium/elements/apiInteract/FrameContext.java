@@ -0,0 +1,88 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.jdi.uitests.web.selenium.elements.apiInteract;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Frames chain selected in every driver.
+ * Search context switches frames only if chain changed. Selected chain is also marked in frame window
+ * so navigation or window switch (new window has no mark) is detected and frames are selected again
+ */
+public class FrameContext {
+    /**
+     * Keep frames selected between searches (frames.track); off by default: search starts from default content
+     */
+    public boolean enabled = false;
+    private static final String MARK = "jdiFramePath";
+    private final Map<WebDriver, String> selected = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * @param driver    Specify driver
+     * @param framePath Specify frames chain
+     * @return true if driver is still inside specified frames chain
+     */
+    public boolean isSelected(WebDriver driver, String framePath) {
+        if (!enabled || framePath.isEmpty() || !framePath.equals(selected.get(driver))
+                || !(driver instanceof JavascriptExecutor))
+            return false;
+        try {
+            return framePath.equals(((JavascriptExecutor) driver).executeScript("return window." + MARK + ";"));
+        } catch (WebDriverException ex) {
+            selected.remove(driver);
+            return false;
+        }
+    }
+
+    /**
+     * @param driver    Specify driver
+     * @param framePath Specify frames chain switched in driver (empty for default content)
+     */
+    public void select(WebDriver driver, String framePath) {
+        if (!enabled) return;
+        if (!framePath.isEmpty()) {
+            if (!(driver instanceof JavascriptExecutor)) return;
+            try {
+                ((JavascriptExecutor) driver).executeScript("window." + MARK + " = arguments[0];", framePath);
+            } catch (WebDriverException ex) {
+                selected.remove(driver);
+                return;
+            }
+        }
+        selected.put(driver, framePath);
+    }
+
+    /**
+     * @param driver Specify driver
+     * Forgets selected frames after navigation, window switch or manual switchTo
+     */
+    public void reset(WebDriver driver) {
+        selected.remove(driver);
+    }
+
+    public void resetAll() {
+        selected.clear();
+    }
+}
@@ -23,8 +23,11 @@ import com.epam.commons.Timer;
 import com.epam.commons.pairs.Pair;
 import com.epam.commons.pairs.Pairs;
 import com.epam.jdi.uitests.core.interfaces.base.IBaseElement;
+import com.epam.jdi.uitests.web.selenium.driver.LocatorTemplate;
+import com.epam.jdi.uitests.web.selenium.driver.SeleniumDriverFactory;
 import com.epam.jdi.uitests.web.selenium.driver.WebDriverByUtils;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -38,6 +41,7 @@ import static com.epam.commons.PrintUtils.print;
 import static com.epam.jdi.uitests.core.settings.JDISettings.*;
 import static com.epam.jdi.uitests.web.WebSettings.getDriverFactory;
 import static java.lang.String.format;
+import static java.util.Collections.singletonList;
 
 /**
  * Created by Roman_Iovlev on 7/3/2015.
@@ -47,7 +51,14 @@ public class GetElementModule {
     private static final String findToMuchElementsMessage = "Find %s elements instead of one for Element '%s' during %s seconds";
     public By byLocator;
     public Pairs<ContextType, By> context = new Pairs<>();
+    public static final Function<WebElement, Boolean> anyElement = el -> el != null;
+    private static final String SEARCH_SCRIPT = ScriptLocator.FUNCTIONS +
+            "return jdiFindAll(arguments[0], arguments[1], arguments[2]);";
     public Function<WebElement, Boolean> localElementSearchCriteria = null;
+    /**
+     * Find and filter displayed elements by one script: true/false for this element, null to use driver factory setting
+     */
+    public Boolean searchByScript = null;
     public WebElement rootElement;
     private String driverName = "";
     private IBaseElement element;
@@ -78,6 +89,27 @@ public class GetElementModule {
         return byLocator != null;
     }
 
+    /**
+     * @return locators chain for search by script (see ScriptLocator) or null
+     * if element is in frame, has root element, own search criteria or locator not supported by script
+     */
+    public List<List<String>> scriptLocator() {
+        return localElementSearchCriteria == null ? scriptChain() : null;
+    }
+
+    private List<List<String>> scriptChain() {
+        if (byLocator == null || rootElement != null)
+            return null;
+        List<By> locators = new ArrayList<>();
+        for (Pair<ContextType, By> pair : context) {
+            if (pair.key == ContextType.Frame)
+                return null;
+            locators.add(pair.value);
+        }
+        locators.add(byLocator);
+        return ScriptLocator.chain(locators);
+    }
+
     public String printContext() {
         return context.toString();
     }
@@ -91,16 +123,53 @@ public class GetElementModule {
     public void setDriverName(String driverName) { this.driverName = driverName; }
 
     public WebElement getElement() {
-        logger.debug("Get Web Element: " + element);
-        WebElement element = timer().getResultByCondition(this::getElementAction, el -> el != null);
+        logger.debug("Get Web Element: {}", element);
+        WebElement element = getCachedElement();
+        if (element != null) {
+            logger.debug("One Element found in cache");
+            return element;
+        }
+        element = timer().getResultByCondition(this::getElementAction, el -> el != null);
         logger.debug("One Element found");
+        cacheElement(element);
         return element;
     }
 
+    private boolean useCache() {
+        return getDriverFactory().elementsCache.enabled && byLocator != null
+                && rootElement == null && localElementSearchCriteria == null;
+    }
+
+    private String cacheKey() {
+        return context.toString() + "|" + byLocator;
+    }
+
+    private WebElement getCachedElement() {
+        return useCache()
+                ? getDriverFactory().elementsCache.get(driverName, cacheKey())
+                : null;
+    }
+
+    private void cacheElement(WebElement element) {
+        if (useCache())
+            getDriverFactory().elementsCache.put(driverName, cacheKey(), element);
+    }
+
+    public void dropCache() {
+        getDriverFactory().elementsCache.invalidate(driverName);
+    }
+
+    /**
+     * Forgets frames selected in driver: next search switches frames again
+     */
+    public void resetFrames() {
+        getDriverFactory().frameContext.reset(getDriver());
+    }
+
     public List<WebElement> getElements() {
-        logger.debug("Get Web elements: " + element);
+        logger.debug("Get Web elements: {}", element);
         List<WebElement> elements = getElementsAction();
-        logger.debug("Found %s elements", elements.size());
+        logger.debug("Found {} elements", elements.size());
         return elements;
     }
 
@@ -109,6 +178,14 @@ public class GetElementModule {
     }
 
     private List<WebElement> getElementsAction() {
+        if (useSearchByScript()) {
+            boolean all = localElementSearchCriteria == anyElement;
+            List<WebElement> result = timer().getResultByCondition(() -> searchByScript(all), els -> els.size() > 0);
+            timeouts.dropTimeouts();
+            if (result == null)
+                throw exception("Can't get Web Elements");
+            return result;
+        }
         List<WebElement> result = timer().getResultByCondition(
                 this::searchElements,
                 els -> where(els, getSearchCriteria()::apply).size() > 0);
@@ -123,10 +200,37 @@ public class GetElementModule {
     }
 
     public GetElementModule searchAll() {
-        localElementSearchCriteria = el -> el != null;
+        localElementSearchCriteria = anyElement;
         return this;
     }
 
+    private boolean useSearchByScript() {
+        boolean enabled = searchByScript != null ? searchByScript : getDriverFactory().searchByScript;
+        if (!enabled || byLocator == null || !(getDriver() instanceof JavascriptExecutor))
+            return false;
+        boolean defaultCriteria = localElementSearchCriteria == null
+                ? getDriverFactory().elementSearchCriteria == SeleniumDriverFactory.displayedCriteria
+                : localElementSearchCriteria == anyElement;
+        return defaultCriteria && ScriptLocator.chain(singletonList(byLocator)) != null;
+    }
+
+    private List<WebElement> searchByScript(boolean all) {
+        if (this.context == null || this.context.isEmpty())
+            return searchByScript(getDriver(), ScriptLocator.chain(singletonList(byLocator)), null, all);
+        List<List<String>> chain = scriptChain();
+        if (chain != null)
+            return searchByScript(getDefaultContent(), chain, null, all);
+        SearchContext context = (rootElement != null)
+                ? rootElement
+                : getSearchContext(correctXPaths(this.context));
+        return searchByScript(getDriver(), ScriptLocator.chain(singletonList(correctXPaths(byLocator))),
+                context instanceof WebElement ? context : null, all);
+    }
+
+    private List<WebElement> searchByScript(WebDriver driver, List<List<String>> chain, Object root, boolean all) {
+        return (List<WebElement>) ((JavascriptExecutor) driver).executeScript(SEARCH_SCRIPT, chain, root, all);
+    }
+
     private WebElement getElementAction() {
         int timeout = timeouts.currentTimeoutSec;
         List<WebElement> result = getElementsAction();
@@ -150,35 +254,63 @@ public class GetElementModule {
     }
 
     private SearchContext getSearchContext(Pairs<ContextType, By> context) {
-        SearchContext searchContext = getDriver().switchTo().defaultContent();
-        for (Pair<ContextType, By> locator : context) {
+        getDriverFactory().elementsCache.switchFrame(driverName, framesKey(context));
+        int framesEnd = 0;
+        for (int i = 0; i < context.size(); i++)
+            if (context.get(i).key == ContextType.Frame)
+                framesEnd = i + 1;
+        String framePath = print(LinqUtils.select(context.subList(0, framesEnd),
+                pair -> pair.key + ":" + pair.value));
+        FrameContext frameContext = getDriverFactory().frameContext;
+        WebDriver driver = getDriver();
+        SearchContext searchContext = driver;
+        int start = framesEnd;
+        if (!frameContext.isSelected(driver, framePath)) {
+            frameContext.reset(driver);
+            searchContext = driver.switchTo().defaultContent();
+            start = 0;
+        }
+        for (int i = start; i < context.size(); i++) {
+            Pair<ContextType, By> locator = context.get(i);
             WebElement element = searchContext.findElement(locator.value);
             if (locator.key == ContextType.Locator)
                 searchContext = element;
             else {
-                getDriver().switchTo().frame(element);
-                searchContext = getDriver();
+                driver.switchTo().frame(element);
+                searchContext = driver;
             }
         }
+        if (start == 0)
+            frameContext.select(driver, framePath);
         return searchContext;
     }
 
+    /**
+     * @return driver switched to default content: place where scripts with scriptLocator chains run
+     */
+    public WebDriver getDefaultContent() {
+        getDriverFactory().elementsCache.switchFrame(driverName, framesKey(new Pairs<>()));
+        FrameContext frameContext = getDriverFactory().frameContext;
+        WebDriver driver = getDriver();
+        frameContext.reset(driver);
+        driver.switchTo().defaultContent();
+        frameContext.select(driver, "");
+        return driver;
+    }
+
+    private static String framesKey(Pairs<ContextType, By> context) {
+        return where(context, pair -> pair.key == ContextType.Frame).toString();
+    }
+
     private Pairs<ContextType, By> correctXPaths(Pairs<ContextType, By> context) {
         if (context.size() == 1) return context;
-        for (Pair<ContextType, By> pair : context.subList(1)) {
-            By byValue = pair.value;
-            if (byValue.toString().contains("By.xpath: //"))
-                pair.value = WebDriverByUtils.getByFunc(byValue).apply(WebDriverByUtils.getByLocator(byValue)
-                        .replaceFirst("/", "./"));
-        }
+        for (Pair<ContextType, By> pair : context.subList(1))
+            pair.value = LocatorTemplate.of(pair.value).relative();
         return context;
     }
 
     private By correctXPaths(By byValue) {
-        return (byValue.toString().contains("By.xpath: //"))
-                ? WebDriverByUtils.getByFunc(byValue).apply(WebDriverByUtils.getByLocator(byValue)
-                .replaceFirst("/", "./"))
-                : byValue;
+        return LocatorTemplate.of(byValue).relative();
     }
 
     public void clearCookies() {
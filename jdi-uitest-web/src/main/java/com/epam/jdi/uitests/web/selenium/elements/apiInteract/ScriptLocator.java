@@ -0,0 +1,96 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.jdi.uitests.web.selenium.elements.apiInteract;
+
+import com.epam.jdi.uitests.web.selenium.driver.LocatorTemplate;
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Search of elements inside browser: locators chain is passed to script as list of [kind, locator]
+ * and resolved by jdiFind (one displayed element or null) and jdiFindAll(chain, root, all) (displayed elements or
+ * all elements if all is true; search starts from root element or from document) functions.
+ * Options are displayed if their select is displayed, as WebElement.isDisplayed() reports them
+ */
+public final class ScriptLocator {
+    private static final Set<String> KINDS = new HashSet<>(
+            asList("xpath", "cssSelector", "id", "name", "className", "tagName"));
+    public static final String FUNCTIONS =
+            "var jdiSearch = function(root, kind, value) {\n" +
+            "  var list = function(nodes) { return Array.prototype.slice.call(nodes); };\n" +
+            "  var attr = function(name) { return list(root.querySelectorAll('[' + name + '=\"' + value.replace(/[\"\\\\]/g, '\\\\$&') + '\"]')); };\n" +
+            "  switch (kind) {\n" +
+            "    case 'xpath':\n" +
+            "      var snapshot = document.evaluate(value, root, null, 7, null), result = [];\n" +
+            "      for (var i = 0; i < snapshot.snapshotLength; i++) result.push(snapshot.snapshotItem(i));\n" +
+            "      return result;\n" +
+            "    case 'cssSelector': return list(root.querySelectorAll(value));\n" +
+            "    case 'id': return attr('id');\n" +
+            "    case 'name': return attr('name');\n" +
+            "    case 'className': return list(root.getElementsByClassName(value));\n" +
+            "    case 'tagName': return list(root.getElementsByTagName(value));\n" +
+            "  }\n" +
+            "  return [];\n" +
+            "};\n" +
+            "var jdiDisplayed = function(el) {\n" +
+            "  if (/^(option|optgroup)$/i.test(el.tagName) && el.closest) el = el.closest('select') || el;\n" +
+            "  if (!(el.offsetWidth || el.offsetHeight || el.getClientRects().length)) return false;\n" +
+            "  var style = window.getComputedStyle ? window.getComputedStyle(el) : null;\n" +
+            "  return !style || style.visibility !== 'hidden' && style.visibility !== 'collapse';\n" +
+            "};\n" +
+            "var jdiFindAll = function(chain, root, all) {\n" +
+            "  root = root || document;\n" +
+            "  for (var i = 0; i < chain.length - 1; i++) {\n" +
+            "    root = jdiSearch(root, chain[i][0], chain[i][1])[0];\n" +
+            "    if (!root) return [];\n" +
+            "  }\n" +
+            "  var result = jdiSearch(root, chain[i][0], chain[i][1]);\n" +
+            "  return all ? result : result.filter(jdiDisplayed);\n" +
+            "};\n" +
+            "var jdiFind = function(chain) {\n" +
+            "  var result = jdiFindAll(chain);\n" +
+            "  return result.length === 1 ? result[0] : null;\n" +
+            "};\n";
+
+    private ScriptLocator() {
+    }
+
+    /**
+     * @param locators Specify locators from outer context to element
+     * @return chain for script search or null if some locator can't be resolved by script
+     */
+    public static List<List<String>> chain(List<By> locators) {
+        List<List<String>> chain = new ArrayList<>();
+        for (int i = 0; i < locators.size(); i++) {
+            LocatorTemplate template = LocatorTemplate.of(i == 0
+                    ? locators.get(i)
+                    : LocatorTemplate.of(locators.get(i)).relative());
+            if (!KINDS.contains(template.kind))
+                return null;
+            chain.add(asList(template.kind, template.locator));
+        }
+        return chain;
+    }
+}
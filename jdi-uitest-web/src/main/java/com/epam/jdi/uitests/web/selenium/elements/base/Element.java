@@ -43,6 +43,7 @@ import com.epam.jdi.uitests.web.selenium.elements.BaseElement;
 import org.openqa.selenium.By;
 import org.openqa.selenium.Dimension;
 import org.openqa.selenium.Keys;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
 
@@ -50,7 +51,9 @@ import java.util.function.Function;
 
 import static com.epam.jdi.uitests.core.logger.LogLevels.DEBUG;
 import static com.epam.jdi.uitests.core.settings.JDISettings.asserter;
+import static com.epam.jdi.uitests.web.selenium.elements.apiInteract.BrowserWaits.waitFor;
 import static java.lang.String.format;
+import static java.util.Arrays.asList;
 
 /**
  * Base Element control implementation
@@ -100,7 +103,10 @@ public class Element extends BaseElement implements IElement {
     }
 
     public void waitAttribute(String name, String value) {
-        wait(el -> el.getAttribute(name).equals(value));
+        waitFor(this, "attribute", asList(name, value), () -> {
+            wait(el -> el.getAttribute(name).equals(value));
+            return true;
+        });
     }
 
     public void setAttribute(String attributeName, String value) {
@@ -126,11 +132,11 @@ public class Element extends BaseElement implements IElement {
     }
 
     public void waitDisplayed() {
-        actions.waitDisplayed(getWebElement()::isDisplayed);
+        actions.waitDisplayed(() -> waitFor(this, "displayed", null, () -> getWebElement().isDisplayed()));
     }
 
     public void waitVanished() {
-        actions.waitVanished(() -> timer().wait(() -> !isDisplayedAction()));
+        actions.waitVanished(() -> waitFor(this, "vanished", null, () -> timer().wait(() -> !isDisplayedAction())));
     }
 
     public WebElement getInvisibleElement() {
@@ -155,7 +161,7 @@ public class Element extends BaseElement implements IElement {
      */
     @JDIAction
     public <T> T wait(Function<WebElement, T> resultFunc, Function<T, Boolean> condition) {
-        return timer().getResultByCondition(() -> resultFunc.apply(getWebElement()), condition::apply);
+        return timer().getResultByCondition(() -> applyToWebElement(resultFunc), condition::apply);
     }
 
     /**
@@ -177,12 +183,21 @@ public class Element extends BaseElement implements IElement {
      */
     @JDIAction
     public <T> T wait(Function<WebElement, T> resultFunc, Function<T, Boolean> condition, int timeoutSec) {
-        setWaitTimeout(timeoutSec);
-        T result = new Timer(timeoutSec).getResultByCondition(() -> resultFunc.apply(getWebElement()), condition::apply);
+        setWaitTimeout(timeoutSec * 1000L);
+        T result = new Timer(timeoutSec * 1000L).getResultByCondition(() -> applyToWebElement(resultFunc), condition::apply);
         restoreWaitTimeout();
         return result;
     }
 
+    private <T> T applyToWebElement(Function<WebElement, T> resultFunc) {
+        try {
+            return resultFunc.apply(getWebElement());
+        } catch (StaleElementReferenceException ex) {
+            avatar.dropCache();
+            throw ex;
+        }
+    }
+
     public void highlight() {
         WebSettings.driverFactory.highlight(this);
     }
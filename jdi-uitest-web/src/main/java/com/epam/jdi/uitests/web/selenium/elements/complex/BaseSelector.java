@@ -18,10 +18,13 @@
 
 package com.epam.jdi.uitests.web.selenium.elements.complex;
 
+import com.epam.commons.ReflectionUtils;
 import com.epam.jdi.uitests.core.interfaces.base.IVisible;
+import com.epam.jdi.uitests.web.selenium.driver.LocatorTemplate;
 import com.epam.jdi.uitests.web.selenium.driver.WebDriverByUtils;
 import com.epam.jdi.uitests.web.selenium.elements.BaseElement;
 import com.epam.jdi.uitests.web.selenium.elements.GetElementType;
+import com.epam.jdi.uitests.web.selenium.elements.apiInteract.ElementData;
 import com.epam.jdi.uitests.web.selenium.elements.base.Clickable;
 import com.epam.jdi.uitests.web.selenium.elements.base.Element;
 import org.openqa.selenium.By;
@@ -31,7 +34,6 @@ import org.openqa.selenium.support.ui.Select;
 import java.util.List;
 
 import static com.epam.commons.EnumUtils.getEnumValue;
-import static com.epam.commons.LinqUtils.first;
 import static com.epam.commons.LinqUtils.select;
 import static com.epam.commons.Timer.waitCondition;
 import static com.epam.jdi.uitests.core.settings.JDISettings.exception;
@@ -63,8 +65,9 @@ abstract class BaseSelector<TEnum extends Enum> extends BaseElement implements I
     protected void selectAction(String name) {
         if (!hasLocator() && allLabels() == null)
             throw exception("Can't find option '%s'. No optionsNamesLocator and allLabelsLocator found", name);
-        if (getLocator().toString().contains("%s")) {
-            new Clickable(WebDriverByUtils.fillByTemplate(getLocator(), name)).click();
+        LocatorTemplate template = LocatorTemplate.of(getLocator());
+        if (template.isTemplate()) {
+            new Clickable(template.fill(name)).click();
             return;
         }
         if (allLabels() != null) {
@@ -79,10 +82,10 @@ abstract class BaseSelector<TEnum extends Enum> extends BaseElement implements I
     }
 
     private void selectFromList(List<WebElement> els, String name) {
-        WebElement element = first(els, el -> el.getText().equals(name));
-        if (element == null)
+        ElementData option = ElementData.find(els, name);
+        if (option == null)
             throw exception("Can't find option '%s'. Please fix allLabelsLocator", name);
-        element.click();
+        option.element.click();
     }
 
     protected void selectAction(int index) {
@@ -92,8 +95,9 @@ abstract class BaseSelector<TEnum extends Enum> extends BaseElement implements I
             selectFromList(allLabels().getWebElements(), index);
             return;
         }
-        if (getLocator().toString().contains("%s")) {
-            new Clickable(WebDriverByUtils.fillByTemplate(getLocator(), index)).click();
+        LocatorTemplate template = LocatorTemplate.of(getLocator());
+        if (template.isTemplate()) {
+            new Clickable(template.fill(index)).click();
             return;
         }
         List<WebElement> els = getAvatar().searchAll().getElements();
@@ -124,6 +128,24 @@ abstract class BaseSelector<TEnum extends Enum> extends BaseElement implements I
         return attr != null && attr.equals("true");
     }
 
+    protected boolean isSelectedAction(ElementData data) {
+        return isSelector ? data.selected : data.checked;
+    }
+
+    /**
+     * @param els Specify option elements
+     * @return Selected state of every option: read by one script unless isSelectedAction(WebElement) is overridden
+     */
+    protected List<Boolean> areSelectedAction(List<WebElement> els) {
+        return isOverridden("isSelectedAction", WebElement.class)
+                ? select(els, this::isSelectedAction)
+                : select(ElementData.read(els), this::isSelectedAction);
+    }
+
+    protected boolean isOverridden(String methodName, Class<?>... parameterTypes) {
+        return ReflectionUtils.isOverridden(getClass(), BaseSelector.class, methodName, parameterTypes);
+    }
+
     public final void waitSelected(String name) {
         actions.isSelected(name, n -> waitCondition(() -> isSelectedAction(n)));
     }
@@ -141,7 +163,7 @@ abstract class BaseSelector<TEnum extends Enum> extends BaseElement implements I
     }
 
     protected List<String> getOptionsAction() {
-        return select(getElements(), WebElement::getText);
+        return ElementData.texts(getElements());
     }
 
     protected abstract String getValueAction();
@@ -167,6 +189,22 @@ abstract class BaseSelector<TEnum extends Enum> extends BaseElement implements I
         return new Select(new Element(getLocator()).getWebElement());
     }
 
+    protected boolean isTemplate() {
+        return hasLocator() && LocatorTemplate.of(getLocator()).isTemplate();
+    }
+
+    /**
+     * @return All option elements or null if options can be found only by template locator
+     */
+    protected List<WebElement> getOptionElements() {
+        if (allLabels() != null)
+            return allLabels().getWebElements();
+        if (!hasLocator() || isTemplate())
+            return null;
+        List<WebElement> els = getAvatar().searchAll().getElements();
+        return els.size() == 1 ? getSelector().getOptions() : els;
+    }
+
     protected List<WebElement> getElements() {
         if (!hasLocator() && allLabels() == null)
             throw exception("Can't check is element displayed or not. No optionsNamesLocator and allLabelsLocator found");
@@ -197,8 +235,8 @@ abstract class BaseSelector<TEnum extends Enum> extends BaseElement implements I
     }
 
     private boolean isDisplayedInList(List<WebElement> els, String name) {
-        WebElement element = first(els, el -> el.getText().equals(name));
-        return element != null && element.isDisplayed();
+        ElementData option = ElementData.find(els, name);
+        return option != null && option.displayed;
     }
 
     protected boolean isDisplayedAction(int index) {
@@ -22,10 +22,12 @@ import com.epam.commons.EnumUtils;
 import com.epam.commons.LinqUtils;
 import com.epam.jdi.uitests.core.interfaces.base.IMultiSelector;
 import com.epam.jdi.uitests.web.selenium.driver.WebDriverByUtils;
+import com.epam.jdi.uitests.web.selenium.elements.apiInteract.ElementData;
 import com.epam.jdi.uitests.web.selenium.elements.apiInteract.GetElementModule;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.epam.commons.LinqUtils.*;
@@ -69,7 +71,14 @@ public abstract class MultiSelector<TEnum extends Enum> extends BaseSelector<TEn
     }
 
     private void clearElements(List<WebElement> els) {
-        foreach(where(els, el -> isSelectedAction(el.getText())), WebElement::click);
+        if (isOverridden("isSelectedAction", String.class)) {
+            foreach(where(els, el -> isSelectedAction(el.getText())), WebElement::click);
+            return;
+        }
+        List<Boolean> selected = areSelectedAction(els);
+        for (int i = 0; i < els.size(); i++)
+            if (selected.get(i))
+                els.get(i).click();
     }
 
     protected WebElement getElement(String name) {
@@ -94,7 +103,12 @@ public abstract class MultiSelector<TEnum extends Enum> extends BaseSelector<TEn
     }
 
     private List<WebElement> getElement(List<WebElement> els, String name) {
-        return where(els, el -> el.getText().equals(name));
+        List<String> texts = ElementData.texts(els);
+        List<WebElement> result = new ArrayList<>();
+        for (int i = 0; i < els.size(); i++)
+            if (texts.get(i).equals(name))
+                result.add(els.get(i));
+        return result;
     }
 
     protected WebElement getElement(int index) {
@@ -119,15 +133,54 @@ public abstract class MultiSelector<TEnum extends Enum> extends BaseSelector<TEn
     }
 
     protected boolean isSelectedAction(String name) {
-        return isSelectedAction(getElement(name));
+        List<WebElement> els = isOverridden("isSelectedAction", WebElement.class) || isTemplate()
+                ? null
+                : getOptionElements();
+        if (els == null)
+            return isSelectedAction(getElement(name));
+        ElementData option = ElementData.find(els, name);
+        if (option == null)
+            throw exception("Can't get option '%s'. Please fix allLabelsLocator", name);
+        return isSelectedAction(option);
     }
 
     protected boolean isSelectedAction(int index) {
         return isSelectedAction(getElement(index));
     }
 
+    /**
+     * @return Names of selected options: all options are read by one script if names and selected state
+     * are taken as MultiSelector does it
+     */
+    protected List<String> areSelectedAction() {
+        List<WebElement> els = isOverridden("isSelectedAction", String.class) || isOverridden("getOptionsAction")
+                || isOverridden("isSelectedAction", WebElement.class)
+                ? null
+                : getOptionElements();
+        if (els == null)
+            return where(getNames(), this::isSelectedAction);
+        return LinqUtils.select(where(ElementData.read(els), this::isSelectedAction), data -> data.text);
+    }
+
+    /**
+     * Options are found by one script and clicked; options of <select> that are already selected are not clicked
+     */
     protected void selectListAction(String... names) {
-        foreach(names, this::selectAction);
+        List<WebElement> els = isOverridden("selectAction", String.class) || isTemplate()
+                ? null
+                : getOptionElements();
+        if (els == null) {
+            foreach(names, this::selectAction);
+            return;
+        }
+        List<ElementData> options = ElementData.find(els, names);
+        for (int i = 0; i < names.length; i++) {
+            ElementData option = options.get(i);
+            if (option == null)
+                throw exception("Can't find option '%s'. Please fix allLabelsLocator", names[i]);
+            if (!isSelector || !option.selected)
+                option.element.click();
+        }
     }
 
     protected void selectListAction(int... indexes) {
@@ -135,7 +188,7 @@ public abstract class MultiSelector<TEnum extends Enum> extends BaseSelector<TEn
     }
 
     protected String getValueAction() {
-        return print(areSelected());
+        return print(areSelectedAction());
     }
 
     @Override
@@ -191,7 +244,7 @@ public abstract class MultiSelector<TEnum extends Enum> extends BaseSelector<TEn
     }
 
     public final List<String> areSelected() {
-        return actions.areSelected(this::getNames, this::isSelectedAction);
+        return actions.areSelected(this::areSelectedAction);
     }
 
     public final void waitSelected(TEnum... names) {
@@ -219,7 +272,8 @@ public abstract class MultiSelector<TEnum extends Enum> extends BaseSelector<TEn
     }
 
     public void checkAll() {
-        foreach(where(getOptions(), label -> !isSelectedAction(label)), this::selectAction);
+        List<String> selected = areSelectedAction();
+        foreach(where(getOptions(), label -> !selected.contains(label)), this::selectAction);
     }
 
 }
\ No newline at end of file
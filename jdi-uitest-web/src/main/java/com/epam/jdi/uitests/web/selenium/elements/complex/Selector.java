@@ -19,6 +19,7 @@
 package com.epam.jdi.uitests.web.selenium.elements.complex;
 
 import com.epam.jdi.uitests.core.interfaces.complex.ISelector;
+import com.epam.jdi.uitests.web.selenium.elements.apiInteract.ElementData;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 
@@ -26,7 +27,6 @@ import java.util.List;
 
 import static com.epam.commons.EnumUtils.getEnumValue;
 import static com.epam.commons.LinqUtils.first;
-import static com.epam.commons.LinqUtils.firstIndex;
 import static com.epam.jdi.uitests.core.settings.JDISettings.exception;
 
 /**
@@ -91,10 +91,16 @@ public class Selector<TEnum extends Enum> extends BaseSelector<TEnum> implements
     }
 
     private String getSelected(List<WebElement> els) {
-        WebElement element = first(els, this::isSelectedAction);
-        if (element == null)
+        if (isOverridden("isSelectedAction", WebElement.class)) {
+            int index = areSelectedAction(els).indexOf(true);
+            if (index < 0)
+                throw exception("No elements selected. Override getSelectedAction or place locator to <select> tag");
+            return els.get(index).getText();
+        }
+        ElementData option = first(ElementData.read(els), data -> isSelectedAction(data));
+        if (option == null)
             throw exception("No elements selected. Override getSelectedAction or place locator to <select> tag");
-        return element.getText();
+        return option.text;
     }
 
     protected int getSelectedIndexAction() {
@@ -111,7 +117,7 @@ public class Selector<TEnum extends Enum> extends BaseSelector<TEnum> implements
     }
 
     private int getSelectedIndex(List<WebElement> els) {
-        int index = firstIndex(els, this::isSelectedAction) + 1;
+        int index = areSelectedAction(els).indexOf(true) + 1;
         if (index == 0)
             throw exception("No elements selected. Override getSelectedAction or place locator to <select> tag");
         return index;
@@ -22,6 +22,7 @@ import com.epam.commons.PrintUtils;
 import com.epam.commons.map.MapArray;
 import com.epam.jdi.uitests.core.interfaces.complex.ITextList;
 import com.epam.jdi.uitests.web.selenium.elements.BaseElement;
+import com.epam.jdi.uitests.web.selenium.elements.apiInteract.ElementData;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 
@@ -87,7 +88,9 @@ public class TextList<TEnum extends Enum> extends BaseElement implements ITextLi
     }
 
     public WebElement getElement(String name) {
-        return first(getWebElements(), el -> el.getText().equals(name));
+        List<WebElement> els = getWebElements();
+        int index = ElementData.texts(els).indexOf(name);
+        return index < 0 ? null : els.get(index);
     }
 
     public WebElement getElement(int index) {
@@ -100,7 +103,9 @@ public class TextList<TEnum extends Enum> extends BaseElement implements ITextLi
 
     protected MapArray<String, WebElement> getElementsAction() {
         try {
-            return new MapArray<>(getWebElements(), WebElement::getText, value -> value);
+            List<WebElement> els = getWebElements();
+            List<String> texts = ElementData.texts(els);
+            return new MapArray<>(els.size(), texts::get, els::get);
         } catch (Exception ex) {
             throw exception(ex.getMessage());
         }
@@ -141,7 +146,7 @@ public class TextList<TEnum extends Enum> extends BaseElement implements ITextLi
     }
 
     protected String getValueAction() {
-        return print(select(getWebElements(), WebElement::getText));
+        return print(ElementData.texts(getWebElements()));
     }
 
     public final String getValue() {
@@ -149,7 +154,7 @@ public class TextList<TEnum extends Enum> extends BaseElement implements ITextLi
     }
 
     public final List<String> waitText(String str) {
-        if (timer().wait(() -> select(getWebElements(), WebElement::getText).contains(str)))
+        if (timer().wait(() -> ElementData.texts(getWebElements()).contains(str)))
             return getLabels();
         else {
             throw exception("Wait Text Failed");
@@ -157,7 +162,7 @@ public class TextList<TEnum extends Enum> extends BaseElement implements ITextLi
     }
 
     public List<String> getTextList() {
-        return invoker.doJActionResult("Get list of texts", () -> select(getWebElements(), WebElement::getText),
+        return invoker.doJActionResult("Get list of texts", () -> ElementData.texts(getWebElements()),
                 PrintUtils::print);
     }
 
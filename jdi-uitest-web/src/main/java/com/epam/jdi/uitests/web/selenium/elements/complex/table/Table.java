@@ -31,21 +31,27 @@ import org.openqa.selenium.WebElement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
 
 import static com.epam.commons.EnumUtils.getAllEnumNamesAsArray;
 import static com.epam.commons.LinqUtils.*;
 import static com.epam.commons.PrintUtils.print;
 import static com.epam.commons.Timer.waitCondition;
 import static com.epam.jdi.uitests.core.settings.JDISettings.*;
+import static com.epam.jdi.uitests.web.WebSettings.getDriverFactory;
 import static java.util.Arrays.asList;
-import static java.util.concurrent.TimeUnit.MILLISECONDS;
-import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
  * Created by Roman_Iovlev on 6/2/2015.
  */
 public class Table extends Text implements ITable, Cloneable {
     public boolean cache = true;
+    /**
+     * Read texts of table at once and search by them instead of asking each cell
+     */
+    public boolean snapshotMode = false;
+    private TableSnapshot snapshot;
+    private long snapshotVersion;
     protected String[] _footer;
     protected By cellLocatorTemplate;
     private List<ICell> allCells = new ArrayList<>();
@@ -132,6 +138,8 @@ public class Table extends Text implements ITable, Cloneable {
     }
 
     public List<ICell> getCells() {
+        if (snapshotMode)
+            return getSnapshotCells();
         List<ICell> result = new ArrayList<>();
         MapArray<String, MapArray<String, ICell>> rows = rows().get();
         for (String columnName : columns().headers())
@@ -147,7 +155,91 @@ public class Table extends Text implements ITable, Cloneable {
         return this;
     }
 
+    public ITable useSnapshot() {
+        snapshotMode = true;
+        return this;
+    }
+
+    /**
+     * @return New snapshot of table texts. Headers and counts are cached if table use cache.
+     * Snapshot is used by reads in snapshot mode until page is navigated or any action is done
+     */
+    public TableSnapshot snapshot() {
+        long version = pageVersion();
+        snapshot = invoker.doJActionResult("Get table snapshot", () -> TableSnapshot.take(this));
+        snapshotVersion = version;
+        if (cache) {
+            columns().setHeaders(snapshot.columnHeaders());
+            columns().setCount(snapshot.columnsCount());
+            rows().setHeaders(snapshot.rowHeaders());
+            rows().setCount(snapshot.rowsCount());
+        }
+        return snapshot;
+    }
+
+    private TableSnapshot getSnapshot() {
+        return snapshot != null && snapshotVersion == pageVersion() ? snapshot : snapshot();
+    }
+
+    private long pageVersion() {
+        return getDriverFactory().elementsCache.pageVersion(getAvatar().getDriverName());
+    }
+
+    private int snapshotLineNum(List<Integer> nums, String lineType, String name) {
+        if (nums.size() == 1)
+            return nums.get(0);
+        throw nums.isEmpty()
+                ? exception("Can't Get %s: '%s'. Table snapshot has no such header", lineType, name)
+                : exception("Can't Get %s: '%s'. Table snapshot has %s lines with this header", lineType, name, nums.size());
+    }
+
+    private ICell snapshotCell(int colNum, int rowNum) {
+        return cell(new Column(colNum), new Row(rowNum));
+    }
+
+    private List<ICell> getSnapshotCells() {
+        TableSnapshot table = getSnapshot();
+        List<ICell> result = new ArrayList<>();
+        for (int colNum = 1; colNum <= table.columnsCount(); colNum++)
+            for (int rowNum = 1; rowNum <= table.rowsCount(); rowNum++)
+                result.add(snapshotCell(colNum, rowNum));
+        return result;
+    }
+
+    private List<ICell> snapshotCells(Function<String, Boolean> condition, boolean onlyFirst) {
+        TableSnapshot table = getSnapshot();
+        List<ICell> result = new ArrayList<>();
+        for (int rowNum = 1; rowNum <= table.rowsCount(); rowNum++)
+            for (int colNum = 1; colNum <= table.columnsCount(); colNum++) {
+                String value = table.value(colNum, rowNum);
+                if (value != null && condition.apply(value)) {
+                    result.add(snapshotCell(colNum, rowNum));
+                    if (onlyFirst)
+                        return result;
+                }
+            }
+        return result;
+    }
+
+    private MapArray<String, ICell> snapshotRow(int rowNum) {
+        TableSnapshot table = getSnapshot();
+        String[] columnHeaders = table.columnHeaders();
+        return new MapArray<>(columnHeaders.length,
+                key -> columnHeaders[key],
+                key -> snapshotCell(key + 1, rowNum));
+    }
+
+    private MapArray<String, ICell> snapshotColumn(int colNum) {
+        TableSnapshot table = getSnapshot();
+        String[] rowHeaders = table.rowHeaders();
+        return new MapArray<>(table.rowsCount(),
+                key -> rowHeaders[key],
+                key -> snapshotCell(colNum, key + 1));
+    }
+
     public void clean() {
+        snapshot = null;
+        snapshotVersion = 0;
         allCells = new ArrayList<>();
         columns().clean();
         rows().clean();
@@ -170,11 +262,15 @@ public class Table extends Text implements ITable, Cloneable {
     }
 
     public List<String> columnValue(int colNum) {
-        return columns().getColumnValue(colNum);
+        return snapshotMode
+                ? getSnapshot().columnValue(colNum)
+                : columns().getColumnValue(colNum);
     }
 
     public List<String> columnValue(String colName) {
-        return columns().getColumnValue(colName);
+        return snapshotMode
+                ? snapshotColumnValue(getSnapshot(), colName)
+                : columns().getColumnValue(colName);
     }
 
     private MapArray<String, ICell> column(Column column) {
@@ -198,11 +294,23 @@ public class Table extends Text implements ITable, Cloneable {
     }
 
     public List<String> rowValue(int rowNum) {
-        return rows().getRowValue(rowNum);
+        return snapshotMode
+                ? getSnapshot().rowValue(rowNum)
+                : rows().getRowValue(rowNum);
     }
 
     public List<String> rowValue(String rowName) {
-        return rows().getRowValue(rowName);
+        return snapshotMode
+                ? snapshotRowValue(getSnapshot(), rowName)
+                : rows().getRowValue(rowName);
+    }
+
+    private List<String> snapshotColumnValue(TableSnapshot table, String colName) {
+        return table.columnValue(snapshotLineNum(table.columnNums(colName), "Column", colName));
+    }
+
+    private List<String> snapshotRowValue(TableSnapshot table, String rowName) {
+        return table.rowValue(snapshotLineNum(table.rowNums(rowName), "Row", rowName));
     }
 
     public void setTableSettings(TableSettings settings) {
@@ -335,14 +443,22 @@ public class Table extends Text implements ITable, Cloneable {
     }
 
     public List<ICell> cells(String value) {
+        if (snapshotMode)
+            return select(getSnapshot().cellsWith(value), pair -> snapshotCell(pair.key, pair.value));
         return new ArrayList<>(where(getCells(), cell -> cell.getValue().equals(value)));
     }
 
     public List<ICell> cellsMatch(String regex) {
+        if (snapshotMode)
+            return snapshotCells(text -> text.matches(regex), false);
         return matches(getCells(), regex);
     }
 
     public ICell cell(String value) {
+        if (snapshotMode) {
+            Pair<Integer, Integer> found = first(getSnapshot().cellsWith(value));
+            return found != null ? snapshotCell(found.key, found.value) : null;
+        }
         ICell result;
         for (Pair<String, MapArray<String, ICell>> row : rows().get()) {
             result = row.value.first((cName, cValue) -> cValue.getText().equals(value));
@@ -353,6 +469,8 @@ public class Table extends Text implements ITable, Cloneable {
     }
 
     public ICell cellMatch(String regex) {
+        if (snapshotMode)
+            return first(snapshotCells(text -> text.matches(regex), true));
         ICell result;
         for (Pair<String, MapArray<String, ICell>> row : rows().get()) {
             result = row.value.first((cName, cValue) -> cValue.getText().matches(regex));
@@ -363,17 +481,15 @@ public class Table extends Text implements ITable, Cloneable {
     }
 
     public MapArray<String, MapArray<String, ICell>> rows(String... colNameValues) {
+        List<Pair<String, String>> criteria = parseCriteria(colNameValues);
+        if (snapshotMode)
+            return snapshotRows(criteria);
         MapArray<String, MapArray<String, ICell>> result = new MapArray<>();
         for (Pair<String, MapArray<String, ICell>> row : rows().get()) {
             boolean matches = true;
-            for (String colNameValue : colNameValues) {
-                if (!colNameValue.matches("[^=]+=[^=]*"))
-                    throw exception("Wrong searchCriteria for Cells: " + colNameValue);
-                String[] splitted = colNameValue.split("=");
-                String colName = splitted[0];
-                String colValue = splitted[1];
-                ICell cell = row.value.get(colName);
-                if (cell == null || !cell.getValue().equals(colValue)) {
+            for (Pair<String, String> colNameValue : criteria) {
+                ICell cell = row.value.get(colNameValue.key);
+                if (cell == null || !cell.getValue().equals(colNameValue.value)) {
                     matches = false;
                     break;
                 }
@@ -384,17 +500,15 @@ public class Table extends Text implements ITable, Cloneable {
     }
 
     public MapArray<String, MapArray<String, ICell>> columns(String... rowNameValues) {
+        List<Pair<String, String>> criteria = parseCriteria(rowNameValues);
+        if (snapshotMode)
+            return snapshotColumns(criteria);
         MapArray<String, MapArray<String, ICell>> result = new MapArray<>();
         for (Pair<String, MapArray<String, ICell>> column : columns().get()) {
             boolean matches = true;
-            for (String rowNameValue : rowNameValues) {
-                if (!rowNameValue.matches("[^=]+=[^=]*"))
-                    throw exception("Wrong searchCritaria for Cells: " + rowNameValue);
-                String[] splitted = rowNameValue.split("=");
-                String rowName = splitted[0];
-                String rowValue = splitted[1];
-                ICell cell = column.value.get(rowName);
-                if (cell == null || !cell.getValue().equals(rowValue)) {
+            for (Pair<String, String> rowNameValue : criteria) {
+                ICell cell = column.value.get(rowNameValue.key);
+                if (cell == null || !cell.getValue().equals(rowNameValue.value)) {
                     matches = false;
                     break;
                 }
@@ -404,6 +518,35 @@ public class Table extends Text implements ITable, Cloneable {
         return result;
     }
 
+    private static List<Pair<String, String>> parseCriteria(String... nameValues) {
+        List<Pair<String, String>> result = new ArrayList<>();
+        for (String nameValue : nameValues) {
+            int separator = nameValue.indexOf('=');
+            if (separator < 1 || nameValue.indexOf('=', separator + 1) > 0)
+                throw exception("Wrong searchCriteria for Cells: " + nameValue);
+            result.add(new Pair<>(nameValue.substring(0, separator), nameValue.substring(separator + 1)));
+        }
+        return result;
+    }
+
+    private MapArray<String, MapArray<String, ICell>> snapshotRows(List<Pair<String, String>> colNameValues) {
+        TableSnapshot table = getSnapshot();
+        String[] rowHeaders = table.rowHeaders();
+        MapArray<String, MapArray<String, ICell>> result = new MapArray<>();
+        for (int rowNum : table.rowsWith(colNameValues))
+            result.add(rowHeaders[rowNum - 1], snapshotRow(rowNum));
+        return result;
+    }
+
+    private MapArray<String, MapArray<String, ICell>> snapshotColumns(List<Pair<String, String>> rowNameValues) {
+        TableSnapshot table = getSnapshot();
+        String[] columnHeaders = table.columnHeaders();
+        MapArray<String, MapArray<String, ICell>> result = new MapArray<>();
+        for (int colNum : table.columnsWith(rowNameValues))
+            result.add(columnHeaders[colNum - 1], snapshotColumn(colNum));
+        return result;
+    }
+
     public boolean waitValue(String value, Row row) {
         return timer().wait(() -> column(value, row) != null);
     }
@@ -413,9 +556,9 @@ public class Table extends Text implements ITable, Cloneable {
     }
 
     public boolean isEmpty() {
-        getDriver().manage().timeouts().implicitlyWait(0, MILLISECONDS);
+        setWaitTimeout(0);
         int rowsCount = rows().count();
-        getDriver().manage().timeouts().implicitlyWait(timeouts.waitElementSec, SECONDS);
+        restoreWaitTimeout();
         return rowsCount == 0;
     }
 
@@ -485,6 +628,14 @@ public class Table extends Text implements ITable, Cloneable {
 
     @Override
     protected String getTextAction() {
+        if (snapshotMode) {
+            TableSnapshot table = snapshot();
+            String[] rowHeaders = table.rowHeaders();
+            List<String> lines = new ArrayList<>();
+            for (int rowNum = 1; rowNum <= table.rowsCount(); rowNum++)
+                lines.add("||" + rowHeaders[rowNum - 1] + "||" + print(table.rowValue(rowNum), "|") + "||");
+            return "||X||" + print(table.columnHeaders(), "|") + "||\n" + print(lines, "\n");
+        }
         return "||X||" + print(columns().headers(), "|") + "||\n" +
                 print(select(rows().headers(),
                         rowName -> "||" + rowName + "||" + print(select(where(getCells(),
@@ -20,6 +20,7 @@ package com.epam.jdi.uitests.web.selenium.elements.complex.table;
 
 import com.epam.commons.map.MapArray;
 import com.epam.jdi.uitests.core.interfaces.common.IText;
+import com.epam.jdi.uitests.web.selenium.driver.LocatorTemplate;
 import com.epam.jdi.uitests.web.selenium.elements.base.Element;
 import com.epam.jdi.uitests.web.selenium.elements.base.SelectElement;
 import com.epam.jdi.uitests.web.selenium.elements.complex.table.interfaces.ITableLine;
@@ -33,7 +34,6 @@ import java.util.List;
 import static com.epam.commons.LinqUtils.*;
 import static com.epam.commons.ReflectionUtils.isClass;
 import static com.epam.jdi.uitests.core.settings.JDISettings.asserter;
-import static com.epam.jdi.uitests.web.selenium.driver.WebDriverByUtils.fillByTemplate;
 
 /**
  * Created by 12345 on 25.10.2014.
@@ -68,14 +68,14 @@ abstract class TableLine extends Element implements ITableLine, Cloneable {
     }
 
     protected List<WebElement> getLineAction(int colNum) {
-        return table.getWebElement().findElements(fillByTemplate((lineTemplate != null) ? lineTemplate : defaultTemplate, colNum));
+        return table.getWebElement().findElements(LocatorTemplate.of((lineTemplate != null) ? lineTemplate : defaultTemplate).fill(colNum));
     }
 
     protected List<WebElement> getLineAction(String lineName) {
         int index = getIndex(headers(), lineName) + 1;
         return (lineTemplate == null)
                 ? getLineAction(index/*getIndex(headers(), lineName) + 1*/)
-                : table.getWebElement().findElements(fillByTemplate(lineTemplate, index/*lineName*/));
+                : table.getWebElement().findElements(LocatorTemplate.of(lineTemplate).fill(index/*lineName*/));
     }
 
     protected abstract List<WebElement> getFirstLine();
@@ -0,0 +1,350 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.jdi.uitests.web.selenium.elements.complex.table;
+
+import com.epam.commons.pairs.Pair;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import static com.epam.commons.LinqUtils.select;
+import static com.epam.commons.LinqUtils.toStringArray;
+import static com.epam.jdi.uitests.web.selenium.driver.WebDriverByUtils.getByLocator;
+import static com.epam.jdi.uitests.web.selenium.driver.WebDriverByUtils.getByName;
+import static java.util.Arrays.asList;
+
+/**
+ * Texts of all Table headers and cells taken at once.<br>
+ * For xpath and css locators snapshot is taken with one script call, otherwise line by line.<br>
+ * Search by values uses hash indexes built on first request
+ */
+public class TableSnapshot {
+    private static final String SNAPSHOT_SCRIPT =
+        "var table = arguments[0], s = arguments[1];" +
+        "function find(kind, locator) {" +
+        "  if (kind === 'cssSelector') return Array.prototype.slice.call(table.querySelectorAll(locator));" +
+        "  var found = document.evaluate(locator, table, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+        "  var result = [];" +
+        "  for (var i = 0; i < found.snapshotLength; i++) result.push(found.snapshotItem(i));" +
+        "  return result;" +
+        "}" +
+        "function texts(elements) {" +
+        "  return elements.map(function(el) { return (el.innerText || el.textContent || '').trim(); });" +
+        "}" +
+        "function limit(list, count) { return count > 0 ? list.slice(0, count) : list; }" +
+        "var columns = s.columns || (s.columnsHeaderKind ? texts(find(s.columnsHeaderKind, s.columnsHeader)) : null);" +
+        "if (columns && !s.columns && s.skipFirstColumn) columns = columns.slice(1);" +
+        "var rows = s.rows || (s.rowsHeaderKind ? texts(find(s.rowsHeaderKind, s.rowsHeader)) : null);" +
+        "var rowsCount = s.rowsCount > 0 ? s.rowsCount : (rows ? rows.length : 0);" +
+        "var cells = [];" +
+        "for (var i = 1; rowsCount > 0 ? i <= rowsCount : i <= 100000; i++) {" +
+        "  var line = find(s.rowKind, s.rowTemplate.replace('%s', i));" +
+        "  if (rowsCount === 0 && line.length === 0) break;" +
+        "  var lineTexts = texts(line);" +
+        "  cells.push(limit(s.skipFirstColumn ? lineTexts.slice(1) : lineTexts, s.columnsCount));" +
+        "}" +
+        "return { columns: columns ? limit(columns, s.columnsCount) : null," +
+        "  rows: rows ? limit(rows, s.rowsCount) : null, cells: cells };";
+
+    private final String[] columnHeaders;
+    private final String[] rowHeaders;
+    private final String[][] cells;
+    private final Map<Integer, Map<String, List<Integer>>> columnIndexes = new ConcurrentHashMap<>();
+    private final Map<Integer, Map<String, List<Integer>>> rowIndexes = new ConcurrentHashMap<>();
+    private volatile Map<String, List<Integer>> columnNums;
+    private volatile Map<String, List<Integer>> rowNums;
+    private volatile Map<String, List<Pair<Integer, Integer>>> cellsIndex;
+
+    TableSnapshot(String[] columnHeaders, String[] rowHeaders, String[][] cells) {
+        this.cells = cells;
+        int columnsCount = 0;
+        for (String[] row : cells)
+            columnsCount = Math.max(columnsCount, row.length);
+        this.columnHeaders = columnHeaders != null ? columnHeaders : numList(columnsCount);
+        this.rowHeaders = rowHeaders != null && rowHeaders.length >= cells.length
+                ? rowHeaders
+                : fillHeaders(rowHeaders, cells.length);
+    }
+
+    static TableSnapshot take(Table table) {
+        Rows rows = table.rows();
+        Columns columns = table.columns();
+        By rowTemplate = rows.lineTemplate != null ? rows.lineTemplate : rows.defaultTemplate;
+        if (!isSupported(rowTemplate)
+                || columns.hasHeader && columns.headers == null && !isSupported(columns.headersLocator)
+                || rows.hasHeader && rows.headers == null && !isSupported(rows.headersLocator))
+            return takeByLines(table);
+        Map<String, Object> settings = new HashMap<>();
+        settings.put("columns", columns.headers != null ? asList(columns.headers) : null);
+        settings.put("rows", rows.headers != null ? asList(rows.headers) : null);
+        putLocator(settings, "columnsHeader", columns.hasHeader ? columns.headersLocator : null);
+        putLocator(settings, "rowsHeader", rows.hasHeader ? rows.headersLocator : null);
+        putLocator(settings, "row", rowTemplate);
+        settings.put("rowTemplate", getByLocator(rowTemplate));
+        settings.put("skipFirstColumn", rows.skipFirstColumn());
+        settings.put("columnsCount", columns.count);
+        settings.put("rowsCount", rows.count);
+        Map<String, Object> result = (Map<String, Object>) ((JavascriptExecutor) table.getDriver())
+                .executeScript(SNAPSHOT_SCRIPT, table.getWebElement(), settings);
+        List<Object> cellLines = (List<Object>) result.get("cells");
+        String[][] cells = new String[cellLines.size()][];
+        for (int i = 0; i < cells.length; i++)
+            cells[i] = toArray(cellLines.get(i));
+        return new TableSnapshot(toArray(result.get("columns")), toArray(result.get("rows")), cells);
+    }
+
+    private static TableSnapshot takeByLines(Table table) {
+        String[] columnHeaders = table.columns().headers();
+        String[] rowHeaders = table.rows().headers();
+        String[][] cells = new String[rowHeaders.length][];
+        for (int i = 0; i < cells.length; i++)
+            cells[i] = toStringArray(table.rows().getRowValue(i + 1));
+        return new TableSnapshot(columnHeaders, rowHeaders, cells);
+    }
+
+    private static boolean isSupported(By locator) {
+        return locator != null && asList("xpath", "cssSelector").contains(getByName(locator));
+    }
+
+    private static void putLocator(Map<String, Object> settings, String name, By locator) {
+        if (locator == null) return;
+        settings.put(name + "Kind", getByName(locator));
+        settings.put(name, getByLocator(locator));
+    }
+
+    private static String[] toArray(Object list) {
+        return list != null
+                ? toStringArray(select((List<Object>) list, el -> el != null ? el.toString() : ""))
+                : null;
+    }
+
+    private static String[] fillHeaders(String[] headers, int count) {
+        String[] result = numList(count);
+        if (headers != null)
+            System.arraycopy(headers, 0, result, 0, headers.length);
+        return result;
+    }
+
+    private static String[] numList(int count) {
+        String[] result = new String[count];
+        for (int i = 0; i < count; i++)
+            result[i] = Integer.toString(i + 1);
+        return result;
+    }
+
+    public String[] columnHeaders() {
+        return columnHeaders.clone();
+    }
+
+    public String[] rowHeaders() {
+        return rowHeaders.clone();
+    }
+
+    public int columnsCount() {
+        return columnHeaders.length;
+    }
+
+    public int rowsCount() {
+        return cells.length;
+    }
+
+    /**
+     * @param columnName Specify column header
+     * @return Column number (from 1) or 0 if table has no such column
+     */
+    public int columnNum(String columnName) {
+        List<Integer> nums = columnNums(columnName);
+        return nums.isEmpty() ? 0 : nums.get(0);
+    }
+
+    /**
+     * @param columnName Specify column header
+     * @return Numbers (from 1) of all columns with such header
+     */
+    public List<Integer> columnNums(String columnName) {
+        if (columnNums == null)
+            columnNums = valuesIndex(asList(columnHeaders));
+        return columnNums.getOrDefault(columnName, new ArrayList<>());
+    }
+
+    /**
+     * @param rowName Specify row header
+     * @return Row number (from 1) or 0 if table has no such row
+     */
+    public int rowNum(String rowName) {
+        List<Integer> nums = rowNums(rowName);
+        return nums.isEmpty() ? 0 : nums.get(0);
+    }
+
+    /**
+     * @param rowName Specify row header
+     * @return Numbers (from 1) of all rows with such header
+     */
+    public List<Integer> rowNums(String rowName) {
+        if (rowNums == null)
+            rowNums = valuesIndex(asList(rowHeaders));
+        return rowNums.getOrDefault(rowName, new ArrayList<>());
+    }
+
+    /**
+     * @param colNum Specify column number (from 1)
+     * @param value  Specify cell text
+     * @return Numbers of rows with such text in column
+     */
+    public List<Integer> rowsWith(int colNum, String value) {
+        return columnIndexes.computeIfAbsent(colNum, num -> valuesIndex(columnValue(num)))
+                .getOrDefault(value, new ArrayList<>());
+    }
+
+    /**
+     * @param rowNum Specify row number (from 1)
+     * @param value  Specify cell text
+     * @return Numbers of columns with such text in row
+     */
+    public List<Integer> columnsWith(int rowNum, String value) {
+        return rowIndexes.computeIfAbsent(rowNum, num -> valuesIndex(rowValue(num)))
+                .getOrDefault(value, new ArrayList<>());
+    }
+
+    /**
+     * @param value Specify cell text
+     * @return Column and row numbers of cells with such text ordered row by row
+     */
+    public List<Pair<Integer, Integer>> cellsWith(String value) {
+        if (cellsIndex == null) {
+            Map<String, List<Pair<Integer, Integer>>> index = new HashMap<>();
+            for (int rowNum = 1; rowNum <= cells.length; rowNum++)
+                for (int colNum = 1; colNum <= cells[rowNum - 1].length; colNum++)
+                    index.computeIfAbsent(value(colNum, rowNum), key -> new ArrayList<>())
+                            .add(new Pair<>(colNum, rowNum));
+            cellsIndex = index;
+        }
+        return cellsIndex.getOrDefault(value, new ArrayList<>());
+    }
+
+    /**
+     * @param colNameValues Specify column names and expected values
+     * @return Numbers of rows that have all expected values
+     */
+    public List<Integer> rowsWith(List<Pair<String, String>> colNameValues) {
+        if (colNameValues.isEmpty())
+            return numbers(cells.length);
+        List<Pair<Integer, String>> criteria = new ArrayList<>();
+        for (Pair<String, String> pair : colNameValues) {
+            int colNum = columnNum(pair.key);
+            if (colNum == 0)
+                return new ArrayList<>();
+            criteria.add(new Pair<>(colNum, pair.value));
+        }
+        return filterBy(criteria, this::rowsWith, (rowNum, colNum) -> value(colNum, rowNum));
+    }
+
+    /**
+     * @param rowNameValues Specify row names and expected values
+     * @return Numbers of columns that have all expected values
+     */
+    public List<Integer> columnsWith(List<Pair<String, String>> rowNameValues) {
+        if (rowNameValues.isEmpty())
+            return numbers(columnHeaders.length);
+        List<Pair<Integer, String>> criteria = new ArrayList<>();
+        for (Pair<String, String> pair : rowNameValues) {
+            int rowNum = rowNum(pair.key);
+            if (rowNum == 0)
+                return new ArrayList<>();
+            criteria.add(new Pair<>(rowNum, pair.value));
+        }
+        return filterBy(criteria, this::columnsWith, (colNum, rowNum) -> value(colNum, rowNum));
+    }
+
+    private List<Integer> filterBy(List<Pair<Integer, String>> criteria,
+                                   BiFunction<Integer, String, List<Integer>> index,
+                                   BiFunction<Integer, Integer, String> valueOf) {
+        Pair<Integer, String> smallest = criteria.get(0);
+        List<Integer> candidates = index.apply(smallest.key, smallest.value);
+        for (Pair<Integer, String> criterion : criteria) {
+            List<Integer> found = index.apply(criterion.key, criterion.value);
+            if (found.size() < candidates.size()) {
+                smallest = criterion;
+                candidates = found;
+            }
+        }
+        List<Integer> result = new ArrayList<>();
+        for (Integer num : candidates) {
+            boolean matches = true;
+            for (Pair<Integer, String> criterion : criteria)
+                if (criterion != smallest && !criterion.value.equals(valueOf.apply(num, criterion.key))) {
+                    matches = false;
+                    break;
+                }
+            if (matches)
+                result.add(num);
+        }
+        return result;
+    }
+
+    private static Map<String, List<Integer>> valuesIndex(List<String> values) {
+        Map<String, List<Integer>> result = new HashMap<>();
+        for (int i = 0; i < values.size(); i++)
+            result.computeIfAbsent(values.get(i), key -> new ArrayList<>()).add(i + 1);
+        return result;
+    }
+
+    private static List<Integer> numbers(int count) {
+        List<Integer> result = new ArrayList<>();
+        for (int i = 1; i <= count; i++)
+            result.add(i);
+        return result;
+    }
+
+    /**
+     * @param colNum Specify column number (from 1)
+     * @param rowNum Specify row number (from 1)
+     * @return Cell text or null if table has no such cell
+     */
+    public String value(int colNum, int rowNum) {
+        if (rowNum < 1 || rowNum > cells.length)
+            return null;
+        String[] row = cells[rowNum - 1];
+        return colNum >= 1 && colNum <= row.length ? row[colNum - 1] : null;
+    }
+
+    public String value(String columnName, String rowName) {
+        return value(columnNum(columnName), rowNum(rowName));
+    }
+
+    public List<String> rowValue(int rowNum) {
+        return rowNum >= 1 && rowNum <= cells.length
+                ? new ArrayList<>(Arrays.asList(cells[rowNum - 1]))
+                : new ArrayList<>();
+    }
+
+    public List<String> columnValue(int colNum) {
+        List<String> result = new ArrayList<>();
+        for (int rowNum = 1; rowNum <= cells.length; rowNum++)
+            result.add(value(colNum, rowNum));
+        return result;
+    }
+}
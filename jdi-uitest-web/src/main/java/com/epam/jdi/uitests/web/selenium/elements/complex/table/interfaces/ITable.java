@@ -266,6 +266,11 @@ public interface ITable extends IText {
 
     ITable useCache();
 
+    /**
+     * Read all table texts by one script and answer cell/rows/columns search from them
+     */
+    ITable useSnapshot();
+
     Table clone();
 
     Table copy();
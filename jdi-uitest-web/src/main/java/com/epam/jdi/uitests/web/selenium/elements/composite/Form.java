@@ -19,7 +19,9 @@
 package com.epam.jdi.uitests.web.selenium.elements.composite;
 
 import com.epam.commons.LinqUtils;
+import com.epam.commons.ReflectionUtils;
 import com.epam.commons.map.MapArray;
+import com.epam.commons.pairs.Pair;
 import com.epam.jdi.uitests.core.annotations.AnnotationsUtil;
 import com.epam.jdi.uitests.core.interfaces.base.IHasValue;
 import com.epam.jdi.uitests.core.interfaces.base.ISetValue;
@@ -27,9 +29,12 @@ import com.epam.jdi.uitests.core.interfaces.common.IButton;
 import com.epam.jdi.uitests.core.interfaces.complex.IForm;
 import com.epam.jdi.uitests.core.utils.common.PrintUtils;
 import com.epam.jdi.uitests.web.selenium.elements.BaseElement;
+import com.epam.jdi.uitests.web.selenium.elements.apiInteract.ScriptLocator;
 import com.epam.jdi.uitests.web.selenium.elements.base.Element;
 import com.epam.jdi.uitests.web.selenium.elements.common.Button;
+import com.epam.jdi.uitests.web.selenium.elements.common.TextField;
 import com.epam.jdi.uitests.web.selenium.elements.pageobjects.annotations.GetElement;
+import org.openqa.selenium.JavascriptExecutor;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -43,11 +48,50 @@ import static com.epam.commons.StringUtils.LINE_BREAK;
 import static com.epam.jdi.uitests.core.settings.JDISettings.exception;
 import static com.epam.jdi.uitests.core.utils.common.PrintUtils.objToSetValue;
 import static java.lang.String.format;
+import static java.util.Arrays.asList;
 
 /**
  * Created by Roman_Iovlev on 7/8/2015.
  */
 public class Form<T> extends Element implements IForm<T> {
+    public static boolean fastFillForms = false;
+    private static final String FILL_SCRIPT = ScriptLocator.FUNCTIONS +
+            "var fields = arguments[0], failed = [];\n" +
+            "var fire = function(el, name) {\n" +
+            "  var event = document.createEvent('HTMLEvents');\n" +
+            "  event.initEvent(name, true, true);\n" +
+            "  el.dispatchEvent(event);\n" +
+            "};\n" +
+            "for (var i = 0; i < fields.length; i++) {\n" +
+            "  var el = jdiFind(fields[i][0]), tag = el ? el.tagName.toLowerCase() : '';\n" +
+            "  if (!el || el.disabled || el.readOnly || tag !== 'textarea' && (tag !== 'input'\n" +
+            "      || !/^(text|password|email|search|tel|url|number)?$/i.test(el.getAttribute('type') || ''))) {\n" +
+            "    failed.push(i);\n" +
+            "    continue;\n" +
+            "  }\n" +
+            "  var property = Object.getOwnPropertyDescriptor(\n" +
+            "    tag === 'textarea' ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype, 'value');\n" +
+            "  if (property && property.set) property.set.call(el, fields[i][1]);\n" +
+            "  else el.value = fields[i][1];\n" +
+            "  fire(el, 'input');\n" +
+            "  fire(el, 'change');\n" +
+            "}\n" +
+            "return failed;";
+    private static final String READ_SCRIPT = ScriptLocator.FUNCTIONS +
+            "var fields = arguments[0], values = [];\n" +
+            "for (var i = 0; i < fields.length; i++) {\n" +
+            "  var el = fields[i] ? jdiFind(fields[i]) : null;\n" +
+            "  values.push(el && 'value' in el ? String(el.value) : null);\n" +
+            "}\n" +
+            "return values;";
+    /**
+     * Fill and verify text fields (TextField, TextArea) by one script call: values are set with input and change events.
+     * Fields are filled in declared order: every run of text fields is set by one script and other fields are typed
+     * between runs; fields that script can't find or set are typed right after their run.
+     * Subclasses of text fields that override how value is set or read are always typed or read one by one
+     */
+    public boolean fastFill = fastFillForms;
+
     protected void setValueAction(String text, ISetValue element) {
         element.setValue(text);
     }
@@ -57,14 +101,46 @@ public class Form<T> extends Element implements IForm<T> {
     }
 
     public void fill(MapArray<String, String> map) {
+        List<Pair<ISetValue, String>> fields = new ArrayList<>();
         foreach(getFields(this, ISetValue.class), element -> {
             String fieldValue = map.first((name, value) ->
                     GetElement.namesEqual(name, AnnotationsUtil.getElementName(element)));
             if (fieldValue != null) {
                 ISetValue setValueElement = (ISetValue) getValueField(element, this);
-                BaseElement.doActionRule.accept(fieldValue, val -> setValueAction(val, setValueElement));
+                BaseElement.doActionRule.accept(fieldValue, val -> fields.add(new Pair<>(setValueElement, val)));
             }
         });
+        boolean byScript = fastFill && !isOverridden("setValueAction", String.class, ISetValue.class)
+                && avatar.getDriver() instanceof JavascriptExecutor;
+        int i = 0;
+        while (i < fields.size()) {
+            List<Pair<ISetValue, String>> run = new ArrayList<>();
+            List<Object> args = new ArrayList<>();
+            for (; byScript && i < fields.size(); i++) {
+                List<List<String>> locator = scriptLocator(fields.get(i).key, false);
+                if (locator == null) break;
+                run.add(fields.get(i));
+                args.add(asList(locator, fields.get(i).value));
+            }
+            for (Pair<ISetValue, String> field : fillByScript(run, args))
+                setValueAction(field.value, field.key);
+            if (i < fields.size()) {
+                setValueAction(fields.get(i).value, fields.get(i).key);
+                i++;
+            }
+        }
+    }
+
+    private List<Pair<ISetValue, String>> fillByScript(List<Pair<ISetValue, String>> run, List<Object> args) {
+        if (run.size() < 2)
+            return run;
+        List<Long> failed = invoker.doJActionResult(format("Fill %s fields of form by script", args.size()),
+                () -> (List<Long>) ((JavascriptExecutor) avatar.getDefaultContent()).executeScript(FILL_SCRIPT, args));
+        List<Pair<ISetValue, String>> typeFields = new ArrayList<>();
+        for (int i = 0; i < run.size(); i++)
+            if (failed.contains((long) i))
+                typeFields.add(run.get(i));
+        return typeFields;
     }
 
     private Button getSubmitButton() {
@@ -112,21 +188,60 @@ public class Form<T> extends Element implements IForm<T> {
 
     public List<String> verify(MapArray<String, String> objStrings) {
         List<String> compareFalse = new ArrayList<>();
+        List<Pair<Field, String>> fields = new ArrayList<>();
         foreach(getFields(this, IHasValue.class), field -> {
             String fieldValue = objStrings.first((name, value) ->
                     GetElement.namesEqual(name, AnnotationsUtil.getElementName(field)));
-            if (fieldValue != null) {
-                IHasValue valueField = (IHasValue) getValueField(field, this);
-                BaseElement.doActionRule.accept(fieldValue, expected -> {
-                    String actual = getValueAction(valueField).trim();
-                    if (!actual.equals(expected))
-                        compareFalse.add(format("Field '%s' (Actual: '%s' <> Expected: '%s')", field.getName(), actual, expected));
-                });
-            }
+            if (fieldValue != null)
+                BaseElement.doActionRule.accept(fieldValue, expected -> fields.add(new Pair<>(field, expected)));
         });
+        List<String> values = fastFill && !isOverridden("getValueAction", IHasValue.class)
+                ? readByScript(fields)
+                : null;
+        for (int i = 0; i < fields.size(); i++) {
+            Pair<Field, String> field = fields.get(i);
+            String actual = values != null && values.get(i) != null
+                    ? values.get(i)
+                    : getValueAction((IHasValue) getValueField(field.key, this));
+            actual = actual.trim();
+            if (!actual.equals(field.value))
+                compareFalse.add(format("Field '%s' (Actual: '%s' <> Expected: '%s')", field.key.getName(), actual, field.value));
+        }
         return compareFalse;
     }
 
+    private List<String> readByScript(List<Pair<Field, String>> fields) {
+        List<Object> args = new ArrayList<>();
+        int scriptFields = 0;
+        for (Pair<Field, String> field : fields) {
+            List<List<String>> locator = scriptLocator(getValueField(field.key, this), true);
+            args.add(locator);
+            if (locator != null) scriptFields++;
+        }
+        if (scriptFields < 2 || !(avatar.getDriver() instanceof JavascriptExecutor))
+            return null;
+        return invoker.doJActionResult(format("Get %s values of form by script", scriptFields),
+                () -> (List<String>) ((JavascriptExecutor) avatar.getDefaultContent()).executeScript(READ_SCRIPT, args));
+    }
+
+    private static List<List<String>> scriptLocator(Object element, boolean read) {
+        if (!(element instanceof TextField))
+            return null;
+        Class<?> type = element.getClass();
+        boolean overridden = read
+                ? ReflectionUtils.isOverridden(type, TextField.class, "getValueAction")
+                    || ReflectionUtils.isOverridden(type, TextField.class, "getTextAction")
+                : ReflectionUtils.isOverridden(type, TextField.class, "setValueAction", String.class)
+                    || ReflectionUtils.isOverridden(type, TextField.class, "newInput", CharSequence.class)
+                    || ReflectionUtils.isOverridden(type, TextField.class, "clearAction")
+                    || ReflectionUtils.isOverridden(type, TextField.class, "inputAction", CharSequence.class);
+        return overridden ? null : ((BaseElement) element).avatar.scriptLocator();
+    }
+
+    private boolean isOverridden(String methodName, Class<?>... parameterTypes) {
+        return ReflectionUtils.isOverridden(getClass(), Form.class, methodName, parameterTypes);
+    }
+
     public void check(MapArray<String, String> objStrings) {
         List<String> result = verify(objStrings);
         if (result.size() > 0)
@@ -35,7 +35,7 @@ import static com.epam.jdi.uitests.web.WebSettings.useDriver;
 public class Site {
     public static Class currentSite;
     public static <T> void Init(Class<T> site) {
-        CascadeInit.initStaticPages(site, getDriverFactory().currentDriverName);
+        CascadeInit.initStaticPages(site, getDriverFactory().currentDriverName());
         currentSite = site;
     }
     public static <T extends Site> T Init(Class<T> site, String driverName) {
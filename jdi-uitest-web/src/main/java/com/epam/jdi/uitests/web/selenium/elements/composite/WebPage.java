@@ -21,7 +21,9 @@ package com.epam.jdi.uitests.web.selenium.elements.composite;
 import com.epam.jdi.uitests.core.annotations.JDIAction;
 import com.epam.jdi.uitests.core.interfaces.complex.IPage;
 import com.epam.jdi.uitests.web.WebSettings;
+import com.epam.jdi.uitests.web.selenium.driver.BrowserState;
 import com.epam.jdi.uitests.web.selenium.elements.BaseElement;
+import com.epam.jdi.uitests.web.selenium.preconditions.PreconditionsState;
 import com.epam.web.matcher.testng.Check;
 import org.openqa.selenium.Cookie;
 
@@ -119,7 +121,11 @@ public class WebPage extends BaseElement implements IPage {
 
     public <T extends IPage> T open() {
         invoker.doJAction(format("Open page %s by url %s", getName(), url),
-                () -> getDriver().navigate().to(url));
+                () -> {
+                    avatar.dropCache();
+                    avatar.resetFrames();
+                    getDriver().navigate().to(url);
+                });
         if (checkAfterOpen)
             checkOpened();
         currentPage = this;
@@ -128,7 +134,7 @@ public class WebPage extends BaseElement implements IPage {
 
     public void isOpened() {
         try {
-            logger.info("Page %s is opened", getName());
+            logger.info("Page {} is opened", getName());
             if (getDriver().getCurrentUrl().equals(url)) return;
             open();
         } catch (Exception ex) {
@@ -143,7 +149,11 @@ public class WebPage extends BaseElement implements IPage {
     @JDIAction
     public void refresh() {
         invoker.doJAction("Refresh page " + getName(),
-                () -> getDriver().navigate().refresh());
+                () -> {
+                    avatar.dropCache();
+                    avatar.resetFrames();
+                    getDriver().navigate().refresh();
+                });
     }
 
     /**
@@ -152,7 +162,11 @@ public class WebPage extends BaseElement implements IPage {
     @JDIAction
     public void back() {
         invoker.doJAction("Go back to previous page",
-                () -> getDriver().navigate().back());
+                () -> {
+                    avatar.dropCache();
+                    avatar.resetFrames();
+                    getDriver().navigate().back();
+                });
     }
 
 
@@ -162,7 +176,11 @@ public class WebPage extends BaseElement implements IPage {
     @JDIAction
     public void forward() {
         invoker.doJAction("Go forward to next page",
-                () -> getDriver().navigate().forward());
+                () -> {
+                    avatar.dropCache();
+                    avatar.resetFrames();
+                    getDriver().navigate().forward();
+                });
     }
 
     /**
@@ -171,8 +189,11 @@ public class WebPage extends BaseElement implements IPage {
      */
     @JDIAction
     public void addCookie(Cookie cookie) {
-        invoker.doJAction("Go forward to next page",
-                () -> getDriver().manage().addCookie(cookie));
+        invoker.doJAction("Add cookie " + cookie.getName(),
+                () -> {
+                    getDriver().manage().addCookie(cookie);
+                    PreconditionsState.forgetState(getDriver());
+                });
     }
 
     /**
@@ -180,8 +201,46 @@ public class WebPage extends BaseElement implements IPage {
      */
     @JDIAction
     public void clearCache() {
-        invoker.doJAction("Go forward to next page",
-                () -> getDriver().manage().deleteAllCookies());
+        invoker.doJAction("Clear browser cache",
+                () -> {
+                    getDriver().manage().deleteAllCookies();
+                    PreconditionsState.forgetState(getDriver());
+                });
+    }
+
+    /**
+     * Clear localStorage and sessionStorage of current page
+     */
+    @JDIAction
+    public void clearStorages() {
+        invoker.doJAction("Clear browser storages",
+                () -> {
+                    BrowserState.clearStorages(getDriver());
+                    PreconditionsState.forgetState(getDriver());
+                });
+    }
+
+    /**
+     * @return Cookies, storages and url of current page
+     */
+    @JDIAction
+    public BrowserState getBrowserState() {
+        return invoker.doJActionResult("Get browser state", () -> BrowserState.capture(getDriver()));
+    }
+
+    /**
+     * @param browserState Specify state captured by getBrowserState or loaded from file
+     *                     Open url of state with its cookies and storages
+     */
+    @JDIAction
+    public void restoreBrowserState(BrowserState browserState) {
+        invoker.doJAction("Restore " + browserState,
+                () -> {
+                    avatar.dropCache();
+                    avatar.resetFrames();
+                    PreconditionsState.forgetState(getDriver());
+                    browserState.restore(getDriver());
+                });
     }
 
     public class StringCheckType {
@@ -36,21 +36,22 @@ import static com.epam.jdi.uitests.web.selenium.elements.composite.WebPage.getUr
 public class WebAnnotationsUtil extends AnnotationsUtil {
 
     public static void fillPageFromAnnotaiton(WebPage element, JPage pageAnnotation, Class<?> parentClass) {
-        String url = pageAnnotation.url();
+        fillPage(element, pageAnnotation.url(), pageAnnotation.title(), pageAnnotation.urlTemplate(),
+                pageAnnotation.checkType(), pageAnnotation.urlCheckType(), pageAnnotation.titleCheckType(), parentClass);
+    }
+
+    public static void fillPage(WebPage element, String url, String title, String urlTemplate,
+                                CheckPageTypes checkType, CheckPageTypes urlCheckType, CheckPageTypes titleCheckType,
+                                Class<?> parentClass) {
         if (!hasDomain() && parentClass != null && parentClass.isAnnotationPresent(JSite.class))
             domain = parentClass.getAnnotation(JSite.class).domain();
         url = (url.contains("://") || parentClass == null || !hasDomain())
                 ? url
                 : getUrlFromUri(url);
-        String title = pageAnnotation.title();
-        String urlTemplate = pageAnnotation.urlTemplate();
         if (urlTemplate != null && !urlTemplate.equals(""))
             urlTemplate = (urlTemplate.contains("://") || parentClass == null || !hasDomain())
                     ? urlTemplate
                     : getMatchFromDomain(urlTemplate);
-        CheckPageTypes checkType = pageAnnotation.checkType();
-        CheckPageTypes urlCheckType = pageAnnotation.urlCheckType();
-        CheckPageTypes titleCheckType = pageAnnotation.titleCheckType();
         if (urlCheckType == NONE)
             urlCheckType = (checkType != NONE) ? checkType : EQUAL;
         if (titleCheckType == NONE)
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.jdi.uitests.web.selenium.elements.pageobjects.processor;
+
+import com.epam.jdi.uitests.core.annotations.AnnotationsUtil;
+import com.epam.jdi.uitests.core.annotations.Name;
+import com.epam.jdi.uitests.core.annotations.functions.CancelButton;
+import com.epam.jdi.uitests.core.annotations.functions.CloseButton;
+import com.epam.jdi.uitests.core.annotations.functions.OkButton;
+import com.epam.jdi.uitests.web.selenium.elements.IPageObjectInit;
+import com.epam.jdi.uitests.web.selenium.elements.pageobjects.annotations.Frame;
+import com.epam.jdi.uitests.web.selenium.elements.pageobjects.annotations.JFindBy;
+import com.epam.jdi.uitests.web.selenium.elements.pageobjects.annotations.JPage;
+import com.epam.jdi.uitests.web.selenium.elements.pageobjects.annotations.JSite;
+import com.epam.jdi.uitests.web.selenium.elements.pageobjects.annotations.WebAnnotationsUtil;
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.FindBy;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+import static java.lang.String.format;
+
+/**
+ * Generates &lt;PageObject&gt;_JDIInit classes (see IPageObjectInit.initClassName) for @JPage and @JSite classes
+ * and for sections used in them, so CascadeInit fills page objects without reflection.<br>
+ * Class keeps reflection initialisation if some of its element fields can't be set from generated code
+ * (private, final or not accessible from class package)
+ */
+public class PageObjectsProcessor extends AbstractProcessor {
+    private static final String BASE_ELEMENT = "com.epam.jdi.uitests.web.selenium.elements.BaseElement";
+    private static final String WEB_PAGE = "com.epam.jdi.uitests.web.selenium.elements.composite.WebPage";
+    private static final String I_BASE_ELEMENT = "com.epam.jdi.uitests.core.interfaces.base.IBaseElement";
+    private static final String I_COMPOSITE = "com.epam.jdi.uitests.core.interfaces.base.IComposite";
+    private static final String ELEMENTS = "com.epam.jdi.uitests.web.selenium.elements.";
+    private final Set<String> processed = new HashSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return new HashSet<>(Arrays.asList(JPage.class.getCanonicalName(), JSite.class.getCanonicalName()));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> sources = new HashSet<>();
+        for (Element element : roundEnv.getRootElements())
+            addClasses(sources, element);
+        Deque<TypeElement> queue = new ArrayDeque<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(JPage.class))
+            addType(queue, sources, element.asType());
+        for (Element element : roundEnv.getElementsAnnotatedWith(JSite.class))
+            addType(queue, sources, element.asType());
+        while (!queue.isEmpty()) {
+            TypeElement type = queue.poll();
+            if (processed.add(type.getQualifiedName().toString()))
+                generate(type, queue, sources);
+        }
+        return false;
+    }
+
+    private void addClasses(Set<TypeElement> sources, Element element) {
+        if (element.getKind() != ElementKind.CLASS || element.getModifiers().contains(Modifier.PRIVATE))
+            return;
+        sources.add((TypeElement) element);
+        for (TypeElement nested : ElementFilter.typesIn(element.getEnclosedElements()))
+            addClasses(sources, nested);
+    }
+
+    private void addType(Deque<TypeElement> queue, Set<TypeElement> sources, TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) return;
+        Element element = ((DeclaredType) type).asElement();
+        if (sources.contains(element))
+            queue.add((TypeElement) element);
+    }
+
+    private void generate(TypeElement type, Deque<TypeElement> queue, Set<TypeElement> sources) {
+        String typeName = type.getQualifiedName().toString();
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        List<String> fields = new ArrayList<>();
+        List<String> staticFields = new ArrayList<>();
+        try {
+            for (VariableElement field : deepGetFields(type))
+                if (!field.getModifiers().contains(Modifier.STATIC) && isSubtype(field.asType(), I_BASE_ELEMENT)) {
+                    fields.add(elementField(field, typeName, packageName, false));
+                    addType(queue, sources, field.asType());
+                }
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements()))
+                if (field.getModifiers().contains(Modifier.STATIC) && isSubtype(field.asType(), BASE_ELEMENT)) {
+                    staticFields.add(elementField(field, typeName, packageName, true));
+                    addType(queue, sources, field.asType());
+                }
+        } catch (IllegalStateException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    format("JDI: '%s' is initialised by reflection: %s", typeName, ex.getMessage()), type);
+            return;
+        }
+        JPage page = isSubtype(type.asType(), WEB_PAGE) ? type.getAnnotation(JPage.class) : null;
+        String initName = IPageObjectInit.initClassName(processingEnv.getElementUtils().getBinaryName(type).toString());
+        String className = initName.substring(initName.lastIndexOf('.') + 1);
+        try (Writer writer = processingEnv.getFiler().createSourceFile(initName, type).openWriter()) {
+            if (!packageName.isEmpty())
+                writer.write(format("package %s;%n%n", packageName));
+            writer.write(format("/**%n * Generated by PageObjectsProcessor from %s%n */%n", typeName));
+            writer.write(format("@SuppressWarnings({\"unchecked\", \"rawtypes\"})%n"));
+            writer.write(format("public final class %s implements %sIPageObjectInit {%n", className, ELEMENTS));
+            writeList(writer, "fields", fields);
+            writeList(writer, "staticFields", staticFields);
+            writer.write(format("    public java.util.function.BiConsumer<%scomposite.WebPage, Class<?>> page() {%n", ELEMENTS));
+            writer.write(format("        return %s;%n    }%n}%n", page != null ? fillPage(page) : "null"));
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    format("JDI: can't generate initialiser for '%s': %s", typeName, ex.getMessage()), type);
+        }
+    }
+
+    private void writeList(Writer writer, String method, List<String> fields) throws IOException {
+        writer.write(format("    public java.util.List<%sElementField> %s() {%n", ELEMENTS, method));
+        writer.write(format("        java.util.List<%sElementField> result = new java.util.ArrayList<>();%n", ELEMENTS));
+        for (String field : fields)
+            writer.write(format("        result.add(%s);%n", field));
+        writer.write(format("        return result;%n    }%n%n"));
+    }
+
+    private List<VariableElement> deepGetFields(TypeElement type) {
+        List<VariableElement> result = new ArrayList<>();
+        TypeMirror superclass = type.getSuperclass();
+        if (isSubtype(type.asType(), I_BASE_ELEMENT) && superclass.getKind() == TypeKind.DECLARED)
+            result.addAll(deepGetFields((TypeElement) ((DeclaredType) superclass).asElement()));
+        result.addAll(ElementFilter.fieldsIn(type.getEnclosedElements()));
+        return result;
+    }
+
+    private String elementField(VariableElement field, String typeName, String packageName, boolean isStatic) {
+        String fieldName = field.getSimpleName().toString();
+        checkAccess(field, packageName);
+        String fieldType = processingEnv.getTypeUtils().erasure(field.asType()).toString();
+        String target = isStatic ? typeName : format("((%s) p)", typeName);
+        StringBuilder result = new StringBuilder(format("new %sElementField(%s, %s, %s.class,%n" +
+                        "                p -> %s.%s,%n" +
+                        "                (p, v) -> %s.%s = (%s) v)",
+                ELEMENTS, literal(fieldName), literal(elementName(field)), fieldType,
+                target, fieldName, target, fieldName, fieldType));
+        JFindBy jFindBy = field.getAnnotation(JFindBy.class);
+        if (jFindBy != null && WebAnnotationsUtil.getFindByLocator(jFindBy) != null)
+            result.append(format(".locator(%s, %s)", byExpression(WebAnnotationsUtil.getFindByLocator(jFindBy)), literal(jFindBy.group())));
+        By locator = WebAnnotationsUtil.getFindByLocator(field.getAnnotation(FindBy.class));
+        if (locator != null)
+            result.append(format(".locator(%s)", byExpression(locator)));
+        By frame = WebAnnotationsUtil.getFrame(field.getAnnotation(Frame.class));
+        if (frame != null)
+            result.append(format(".frame(%s)", byExpression(frame)));
+        if (field.asType().getKind() == TypeKind.DECLARED) {
+            By typeFrame = WebAnnotationsUtil.getFrame(((DeclaredType) field.asType()).asElement().getAnnotation(Frame.class));
+            if (typeFrame != null)
+                result.append(format(".typeFrame(%s)", byExpression(typeFrame)));
+        }
+        String function = function(field);
+        if (function != null)
+            result.append(format(".function(com.epam.jdi.uitests.core.annotations.functions.Functions.%s)", function));
+        JPage page = field.getAnnotation(JPage.class);
+        if (page != null)
+            result.append(format(".page(%s)", fillPage(page)));
+        if (isSubtype(field.asType(), I_COMPOSITE))
+            result.append(".composite()");
+        return result.toString();
+    }
+
+    private void checkAccess(VariableElement field, String packageName) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.FINAL))
+            throw new IllegalStateException(format("field '%s' is private or final", field.getSimpleName()));
+        String fieldPackage = processingEnv.getElementUtils().getPackageOf(field).getQualifiedName().toString();
+        if (!modifiers.contains(Modifier.PUBLIC) && !fieldPackage.equals(packageName))
+            throw new IllegalStateException(format("field '%s' is not accessible from package '%s'", field.getSimpleName(), packageName));
+        if (field.asType().getKind() == TypeKind.DECLARED) {
+            Element fieldType = ((DeclaredType) field.asType()).asElement();
+            String typePackage = processingEnv.getElementUtils().getPackageOf(fieldType).getQualifiedName().toString();
+            if (!fieldType.getModifiers().contains(Modifier.PUBLIC) && !typePackage.equals(packageName))
+                throw new IllegalStateException(format("type of field '%s' is not accessible from package '%s'", field.getSimpleName(), packageName));
+        }
+    }
+
+    private String elementName(VariableElement field) {
+        Name name = field.getAnnotation(Name.class);
+        return name != null
+                ? name.value()
+                : AnnotationsUtil.splitCamelCase(field.getSimpleName().toString());
+    }
+
+    private String function(VariableElement field) {
+        if (field.getAnnotation(OkButton.class) != null)
+            return "OK_BUTTON";
+        if (field.getAnnotation(CloseButton.class) != null)
+            return "CLOSE_BUTTON";
+        if (field.getAnnotation(CancelButton.class) != null)
+            return "CANCEL_BUTTON";
+        return null;
+    }
+
+    private String fillPage(JPage page) {
+        String checkTypes = ELEMENTS + "composite.CheckPageTypes.";
+        return format("(page, parentClass) -> %spageobjects.annotations.WebAnnotationsUtil.fillPage(page, %s, %s, %s, %s%s, %s%s, %s%s, parentClass)",
+                ELEMENTS, literal(page.url()), literal(page.title()), literal(page.urlTemplate()),
+                checkTypes, page.checkType(), checkTypes, page.urlCheckType(), checkTypes, page.titleCheckType());
+    }
+
+    private String byExpression(By by) {
+        String byAsString = by.toString();
+        int separator = byAsString.indexOf(": ");
+        return format("org.openqa.selenium.By.%s(%s)", byAsString.substring(3, separator), literal(byAsString.substring(separator + 2)));
+    }
+
+    private String literal(String value) {
+        return processingEnv.getElementUtils().getConstantExpression(value);
+    }
+
+    private boolean isSubtype(TypeMirror type, String className) {
+        TypeElement expected = processingEnv.getElementUtils().getTypeElement(className);
+        return expected != null && processingEnv.getTypeUtils().isAssignable(
+                processingEnv.getTypeUtils().erasure(type), processingEnv.getTypeUtils().erasure(expected.asType()));
+    }
+}
@@ -48,6 +48,21 @@ public interface IPreconditions {
     Function<WebDriver, Boolean> checkAction();
     Consumer<WebDriver> moveToAction();
 
+    /**
+     * @return State that should be reached before moveToAction (null if moveToAction works from any state)
+     */
+    default IPreconditions dependsOn() {
+        return null;
+    }
+
+    /**
+     * @return true if browser state (cookies, storages, url) should be captured when state is reached
+     * and restored next time instead of moving to state
+     */
+    default boolean keepBrowserState() {
+        return false;
+    }
+
     default void open(WebDriver driver) {
         moveToAction().accept(driver);
     }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty ofMERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. 
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.jdi.uitests.web.selenium.preconditions;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static java.lang.String.format;
+
+/**
+ * Graph of precondition states.
+ * Every state is reached by its moveToAction from state it depends on (or from any state) and by
+ * transitions added between states. Path is the shortest chain of transitions to target state
+ */
+public class PreconditionsGraph {
+    private final Map<IPreconditions, List<Transition>> transitionsTo = new ConcurrentHashMap<>();
+
+    /**
+     * @param from   Specify state where action starts
+     * @param to     Specify state reached by action
+     * @param action Specify action
+     */
+    public PreconditionsGraph add(IPreconditions from, IPreconditions to, Consumer<WebDriver> action) {
+        transitionsTo.computeIfAbsent(to, state -> new CopyOnWriteArrayList<>())
+                .add(new Transition(from, to, action));
+        return this;
+    }
+
+    public void clear() {
+        transitionsTo.clear();
+    }
+
+    /**
+     * @param current Specify last known state (null if unknown)
+     * @param target  Specify state to reach
+     * @return Shortest transitions chain to target: from current state if it is not farther than from any state
+     */
+    public List<Transition> path(IPreconditions current, IPreconditions target) {
+        Map<IPreconditions, Transition> next = new HashMap<>();
+        next.put(target, null);
+        List<IPreconditions> level = new ArrayList<>();
+        level.add(target);
+        Transition fromAny = null;
+        while (!level.isEmpty()) {
+            List<IPreconditions> nextLevel = new ArrayList<>();
+            for (IPreconditions state : level)
+                for (Transition transition : transitionsTo(state)) {
+                    if (transition.from == null) {
+                        if (fromAny == null)
+                            fromAny = transition;
+                        continue;
+                    }
+                    if (next.containsKey(transition.from))
+                        continue;
+                    next.put(transition.from, transition);
+                    if (transition.from.equals(current))
+                        return chain(next.get(current), next);
+                    nextLevel.add(transition.from);
+                }
+            if (fromAny != null)
+                return chain(fromAny, next);
+            level = nextLevel;
+        }
+        return new ArrayList<>();
+    }
+
+    private List<Transition> transitionsTo(IPreconditions state) {
+        List<Transition> result = new ArrayList<>(transitionsTo.getOrDefault(state, new ArrayList<>()));
+        result.add(new Transition(state.dependsOn(), state, state.moveToAction()));
+        return result;
+    }
+
+    private static List<Transition> chain(Transition first, Map<IPreconditions, Transition> next) {
+        List<Transition> result = new ArrayList<>();
+        for (Transition transition = first; transition != null; transition = next.get(transition.to))
+            result.add(transition);
+        return result;
+    }
+
+    public static class Transition {
+        public final IPreconditions from;
+        public final IPreconditions to;
+        public final Consumer<WebDriver> action;
+
+        public Transition(IPreconditions from, IPreconditions to, Consumer<WebDriver> action) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        public String toString() {
+            return format("%s -> %s", from != null ? from : "Any state", to);
+        }
+    }
+}
@@ -18,9 +18,22 @@
 
 package com.epam.jdi.uitests.web.selenium.preconditions;
 
+import com.epam.jdi.uitests.web.selenium.driver.BrowserState;
+import com.epam.jdi.uitests.web.selenium.preconditions.PreconditionsGraph.Transition;
 import org.openqa.selenium.WebDriver;
 
 import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static com.epam.jdi.uitests.core.settings.JDIData.testName;
 import static com.epam.jdi.uitests.core.settings.JDISettings.asserter;
@@ -32,33 +45,197 @@ import static java.lang.Thread.currentThread;
 
 /**
  * Created by Roman_Iovlev on 10/27/2015.
+ * Moves driver to state by shortest path in graph. Last reached state is kept per driver:
+ * if it is closer to target than any state it is checked once and used as start of path.
+ * States with keepBrowserState are captured once and restored instead of moving through path
  */
 public class PreconditionsState {
     public static boolean alwaysMoveToCondition;
+    public static PreconditionsGraph graph = new PreconditionsGraph();
+    private static final Map<WebDriver, IPreconditions> states = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<WebDriver, Future<?>> prepared = Collections.synchronizedMap(new WeakHashMap<>());
+    private static ExecutorService preparer;
+    /**
+     * Folder to keep captured browser states as json between runs, e.g. "target/states"
+     * (null or empty to keep them in memory only)
+     */
+    public static String browserStatesPath = null;
+    private static final Map<String, BrowserState> browserStates = new ConcurrentHashMap<>();
 
     public static void isInState(IPreconditions condition, WebDriver driver, Method method) {
+        if (method != null) testName = method.getName();
+        awaitPrepared(driver);
+        moveToState(condition, driver);
+    }
+
+    public static void isInState(IPreconditions condition) {
+        isInState(condition, getDriver(), null);
+    }
+    public static void isInState(IPreconditions condition, Method method) {
+        isInState(condition, getDriver(), method);
+    }
+    public static void isInState(IPreconditions condition, WebDriver driver) {
+        isInState(condition, driver, null);
+    }
+
+    /**
+     * @param condition Specify state
+     * @param driver    Specify driver that is not used by test now (e.g. session for next test)
+     * @return Moves driver to state in background. isInState with this driver waits for it
+     */
+    public static Future<?> prepare(IPreconditions condition, WebDriver driver) {
+        Future<?> future = preparer().submit(() -> moveToState(condition, driver));
+        prepared.put(driver, future);
+        return future;
+    }
+
+    /**
+     * @param driver Specify driver
+     * @return Last state reached by driver (null if unknown)
+     */
+    public static IPreconditions lastState(WebDriver driver) {
+        return states.get(driver);
+    }
+
+    public static void forgetState(WebDriver driver) {
+        states.remove(driver);
+    }
+
+    /**
+     * @param condition Specify state
+     * @return Browser state captured for condition in this or previous run (null if there is no one)
+     */
+    public static BrowserState getBrowserState(IPreconditions condition) {
+        String key = condition.toString();
+        BrowserState browserState = browserStates.get(key);
+        if (browserState == null && keepStatesInFiles()) {
+            browserState = BrowserState.load(browserStatePath(condition));
+            if (browserState != null)
+                browserStates.put(key, browserState);
+        }
+        return browserState;
+    }
+
+    /**
+     * @param condition Specify state
+     * @param driver    Specify driver that is in this state now
+     */
+    public static void saveBrowserState(IPreconditions condition, WebDriver driver) {
+        BrowserState browserState = BrowserState.capture(driver);
+        browserStates.put(condition.toString(), browserState);
+        if (keepStatesInFiles())
+            browserState.save(browserStatePath(condition));
+    }
+
+    public static void dropBrowserState(IPreconditions condition) {
+        browserStates.remove(condition.toString());
+        if (keepStatesInFiles())
+            browserStatePath(condition).toFile().delete();
+    }
+
+    private static boolean keepStatesInFiles() {
+        return browserStatesPath != null && !browserStatesPath.isEmpty();
+    }
+
+    private static Path browserStatePath(IPreconditions condition) {
+        return Paths.get(browserStatesPath, condition.toString().replaceAll("[^\\w.-]", "_") + ".json");
+    }
+
+    private static void moveToState(IPreconditions condition, WebDriver driver) {
         try {
             out.println(format("=== Start precondition. Thread id : %s", currentThread().getId()));
             logger.info("Move to condition: " + condition);
-            if (method != null) testName = method.getName();
-            if (!alwaysMoveToCondition && condition.checkAction().apply(driver))
+            if (!alwaysMoveToCondition && condition.checkAction().apply(driver)) {
+                states.put(driver, condition);
                 return;
-            condition.moveToAction().accept(driver);
+            }
+            states.remove(driver);
+            List<Transition> path = restoreBrowserState(getPath(condition, driver), driver);
+            for (Transition transition : path) {
+                logger.debug("Move " + transition);
+                transition.action.accept(driver);
+                if (transition.to != condition)
+                    keepBrowserState(transition.to, driver);
+            }
             out.println(format("=== Move to done precondition. Thread id : %s", currentThread().getId()));
-            asserter.isTrue(() -> condition.checkAction().apply(driver));
+            if (!path.isEmpty()) {
+                asserter.isTrue(() -> condition.checkAction().apply(driver));
+                keepBrowserState(condition, driver);
+            }
+            states.put(driver, condition);
             logger.info(condition + " condition achieved");
         } catch (Exception ex) {
+            states.remove(driver);
             throw asserter.exception(format("Can't reach state: %s. Reason: %s", condition, ex.getMessage()));
         }
     }
 
-    public static void isInState(IPreconditions condition) {
-        isInState(condition, getDriver(), null);
+    private static List<Transition> getPath(IPreconditions condition, WebDriver driver) {
+        if (alwaysMoveToCondition)
+            return checkPath(graph.path(null, condition), condition);
+        List<Transition> path = checkPath(graph.path(states.get(driver), condition), condition);
+        IPreconditions start = path.get(0).from;
+        if (start != null)
+            return start.checkAction().apply(driver)
+                    ? path
+                    : skipReachedStates(checkPath(graph.path(null, condition), condition), driver);
+        return skipReachedStates(path, driver);
     }
-    public static void isInState(IPreconditions condition, Method method) {
-        isInState(condition, getDriver(), method);
+
+    private static List<Transition> checkPath(List<Transition> path, IPreconditions condition) {
+        if (path.isEmpty())
+            throw new RuntimeException("No path to state " + condition);
+        return path;
     }
-    public static void isInState(IPreconditions condition, WebDriver driver) {
-        isInState(condition, driver, null);
+
+    private static List<Transition> skipReachedStates(List<Transition> path, WebDriver driver) {
+        for (int i = path.size() - 1; i > 0; i--)
+            if (path.get(i).from.checkAction().apply(driver))
+                return path.subList(i, path.size());
+        return path;
+    }
+
+    private static List<Transition> restoreBrowserState(List<Transition> path, WebDriver driver) {
+        if (path.get(0).from != null)
+            return path;
+        for (int i = path.size() - 1; i >= 0; i--) {
+            IPreconditions state = path.get(i).to;
+            BrowserState browserState = state.keepBrowserState() ? getBrowserState(state) : null;
+            if (browserState == null)
+                continue;
+            logger.debug("Restore " + browserState);
+            browserState.restore(driver);
+            if (state.checkAction().apply(driver))
+                return path.subList(i + 1, path.size());
+            dropBrowserState(state);
+        }
+        return path;
+    }
+
+    private static void keepBrowserState(IPreconditions state, WebDriver driver) {
+        if (state.keepBrowserState() && !browserStates.containsKey(state.toString()))
+            saveBrowserState(state, driver);
+    }
+
+    private static void awaitPrepared(WebDriver driver) {
+        Future<?> future = prepared.remove(driver);
+        if (future == null) return;
+        try {
+            future.get();
+        } catch (ExecutionException ex) {
+            logger.debug("Prepare state failed: " + ex.getCause().getMessage());
+        } catch (InterruptedException ex) {
+            currentThread().interrupt();
+        }
+    }
+
+    private static synchronized ExecutorService preparer() {
+        if (preparer == null)
+            preparer = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "JDI Preconditions");
+                thread.setDaemon(true);
+                return thread;
+            });
+        return preparer;
     }
-}
\ No newline at end of file
+}
@@ -19,6 +19,7 @@
 package com.epam.jdi.uitests.web.testng.testRunner;
 
 import com.epam.commons.Timer;
+import com.epam.jdi.uitests.core.logger.JDILogger;
 import com.epam.jdi.uitests.web.WebSettings;
 import com.epam.jdi.uitests.web.selenium.driver.DriverTypes;
 import org.testng.annotations.AfterSuite;
@@ -28,8 +29,10 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 
 import static com.epam.commons.StringUtils.LINE_BREAK;
+import static com.epam.jdi.uitests.core.reporting.PerformanceStatistic.exportStatistic;
 import static com.epam.jdi.uitests.core.settings.JDISettings.driverFactory;
 import static com.epam.jdi.uitests.core.settings.JDISettings.logger;
+import static com.epam.jdi.uitests.core.settings.JDISettings.screenshots;
 import static com.epam.jdi.uitests.web.WebSettings.initFromProperties;
 import static com.epam.jdi.uitests.web.WebSettings.useDriver;
 import static com.epam.jdi.uitests.web.selenium.driver.WebDriverUtils.killAllRunWebDrivers;
@@ -59,6 +62,10 @@ public class TestNGBase {
     public static void jdiTearDown() {
         logger.info("Test run finished. " + LINE_BREAK + "Total test run time: " +
                 new SimpleDateFormat("HH:mm:ss.S").format(new Date(21 * 3600000 + getTestRunTime())));
+        driverFactory.quitAllDrivers();
         killAllRunWebDrivers();
+        screenshots.flush();
+        exportStatistic();
+        JDILogger.flush();
     }
 }
\ No newline at end of file
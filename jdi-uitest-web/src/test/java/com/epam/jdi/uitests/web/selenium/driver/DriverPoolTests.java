@@ -0,0 +1,170 @@
+package com.epam.jdi.uitests.web.selenium.driver;
+
+import com.epam.jdi.uitests.core.logger.JDILogger;
+import com.epam.web.matcher.testng.Check;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+import static com.epam.commons.Timer.waitCondition;
+import static com.epam.jdi.uitests.core.settings.JDISettings.asserter;
+import static com.epam.jdi.uitests.core.settings.JDISettings.logger;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.testng.Assert.*;
+
+public class DriverPoolTests {
+    private final List<Session> sessions = new CopyOnWriteArrayList<>();
+    private DriverPool pool;
+
+    @BeforeClass
+    public void setUp() {
+        logger = new JDILogger("DriverPoolTests");
+        asserter = new Check();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        if (pool != null)
+            pool.shutdown();
+        sessions.clear();
+    }
+
+    @Test
+    public void warmUpStartsAllSessions() {
+        pool = pool(this::newDriver, 2).warmUp();
+        assertTrue(waitCondition(() -> pool.idleCount() == 2));
+        assertEquals(pool.aliveCount(), 2);
+        assertEquals(sessions.size(), 2);
+    }
+
+    @Test
+    public void releasedSessionIsLeasedAgain() {
+        pool = pool(this::newDriver, 1).warmUp();
+        WebDriver driver = pool.lease();
+        pool.release(driver);
+        assertSame(pool.lease(), driver);
+        assertEquals(pool.aliveCount(), 1);
+        assertEquals(sessions.size(), 1);
+    }
+
+    @Test
+    public void leaseDoesNotStartSessionInTestThread() {
+        List<String> startThreads = new CopyOnWriteArrayList<>();
+        pool = pool(() -> {
+            startThreads.add(Thread.currentThread().getName());
+            return newDriver();
+        }, 1);
+        assertNotNull(pool.lease());
+        assertEquals(startThreads.size(), 1);
+        assertNotEquals(startThreads.get(0), Thread.currentThread().getName());
+    }
+
+    @Test
+    public void unhealthySessionIsEvictedAndReplaced() {
+        pool = pool(this::newDriver, 1).warmUp();
+        WebDriver driver = pool.lease();
+        session(driver).broken = true;
+        pool.release(driver);
+        assertTrue(session(driver).quit);
+        WebDriver replacement = pool.lease();
+        assertNotSame(replacement, driver);
+        assertEquals(pool.aliveCount(), 1);
+    }
+
+    @Test
+    public void leaseFailsWhenPoolIsBusy() {
+        pool = pool(this::newDriver, 1);
+        pool.leaseTimeoutSec = 1;
+        pool.lease();
+        try {
+            pool.lease();
+            fail("Lease from busy pool should fail");
+        } catch (AssertionError | RuntimeException ex) {
+            assertTrue(ex.getMessage().contains("Can't lease WebDriver"), ex.getMessage());
+        }
+        assertEquals(pool.aliveCount(), 1);
+    }
+
+    @Test
+    public void shutdownQuitsIdleAndReleasedSessions() {
+        pool = pool(this::newDriver, 2).warmUp();
+        assertTrue(waitCondition(() -> pool.idleCount() == 2));
+        WebDriver leased = pool.lease();
+        pool.shutdown();
+        pool.release(leased);
+        for (Session session : sessions)
+            assertTrue(session.quit);
+        assertEquals(pool.idleCount(), 0);
+        assertEquals(pool.aliveCount(), 0);
+    }
+
+    @Test
+    public void sessionPreparedDuringShutdownIsQuit() throws InterruptedException {
+        CountDownLatch preparing = new CountDownLatch(1);
+        CountDownLatch shutDown = new CountDownLatch(1);
+        pool = pool(this::newDriver, 1);
+        pool.prepareState = driver -> {
+            preparing.countDown();
+            try {
+                shutDown.await(5, SECONDS);
+            } catch (InterruptedException ignore) { }
+        };
+        pool.warmUp();
+        assertTrue(preparing.await(5, SECONDS));
+        pool.shutdown();
+        shutDown.countDown();
+        assertTrue(waitCondition(() -> sessions.get(0).quit));
+        assertEquals(pool.idleCount(), 0);
+        assertEquals(pool.aliveCount(), 0);
+    }
+
+    private DriverPool pool(Supplier<WebDriver> driver, int size) {
+        DriverPool result = new DriverPool(driver, size);
+        result.resetState = d -> { };
+        return result;
+    }
+
+    private WebDriver newDriver() {
+        Session session = new Session();
+        sessions.add(session);
+        return session.driver;
+    }
+
+    private Session session(WebDriver driver) {
+        for (Session session : sessions)
+            if (session.driver == driver)
+                return session;
+        throw new AssertionError("Unknown driver");
+    }
+
+    private static class Session {
+        volatile boolean quit;
+        volatile boolean broken;
+        final WebDriver driver = (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "quit":
+                            quit = true;
+                            return null;
+                        case "getWindowHandle":
+                            if (quit || broken)
+                                throw new WebDriverException("Session is closed");
+                            return "window";
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            return null;
+                    }
+                });
+    }
+}
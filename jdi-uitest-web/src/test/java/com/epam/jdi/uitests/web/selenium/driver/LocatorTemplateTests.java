@@ -0,0 +1,66 @@
+package com.epam.jdi.uitests.web.selenium.driver;
+
+import org.openqa.selenium.By;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+public class LocatorTemplateTests {
+
+    @Test
+    public void parsedKindAndLocator() {
+        LocatorTemplate template = LocatorTemplate.of(By.cssSelector("#menu li"));
+        assertEquals(template.kind, "cssSelector");
+        assertEquals(template.locator, "#menu li");
+        assertFalse(template.isTemplate());
+        assertTrue(LocatorTemplate.of(By.xpath("//a[.='%s']")).isTemplate());
+    }
+
+    @Test
+    public void fillKeepsLocatorKind() {
+        assertEquals(LocatorTemplate.of(By.xpath("//a[.='%s']")).fill("Home"), By.xpath("//a[.='Home']"));
+        assertEquals(LocatorTemplate.of(By.cssSelector("li:nth-child(%d) %s")).fill(2, "a"),
+                By.cssSelector("li:nth-child(2) a"));
+        assertEquals(LocatorTemplate.of(By.id("item%s")).fill(5), By.id("item5"));
+    }
+
+    @Test
+    public void fillWithEscapesAsStringFormat() {
+        By by = By.xpath("//div[@style='width:100%%'][%s]");
+        assertEquals(LocatorTemplate.of(by).fill(3), By.xpath(String.format("//div[@style='width:100%%'][%s]", 3)));
+    }
+
+    @Test
+    public void fillWithOtherConversionsUsesStringFormat() {
+        assertEquals(LocatorTemplate.of(By.xpath("//tr[%02d]/td[%s]")).fill(7, "x"), By.xpath("//tr[07]/td[x]"));
+    }
+
+    @Test
+    public void filledLocatorIsReused() {
+        LocatorTemplate template = LocatorTemplate.of(By.xpath("//button[.='%s']"));
+        assertSame(template.fill("Submit"), template.fill("Submit"));
+        assertNotEquals(template.fill("Submit"), template.fill("Cancel"));
+    }
+
+    @Test(expectedExceptions = RuntimeException.class)
+    public void notEnoughArguments() {
+        LocatorTemplate.of(By.xpath("//td[%s][%s]")).fill("1");
+    }
+
+    @Test(expectedExceptions = RuntimeException.class)
+    public void notIntegerForDecimal() {
+        LocatorTemplate.of(By.xpath("//td[%d]")).fill("one");
+    }
+
+    @Test
+    public void fillMsg() {
+        assertEquals(LocatorTemplate.of(By.xpath("//td[{0}][{1}]")).fillMsg("a", "b"), By.xpath("//td[a][b]"));
+    }
+
+    @Test
+    public void relativeXpath() {
+        assertEquals(LocatorTemplate.of(By.xpath("//div")).relative(), By.xpath(".//div"));
+        By css = By.cssSelector("div");
+        assertEquals(LocatorTemplate.of(css).relative(), css);
+    }
+}
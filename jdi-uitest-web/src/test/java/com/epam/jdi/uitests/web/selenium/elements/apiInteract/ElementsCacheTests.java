@@ -0,0 +1,83 @@
+package com.epam.jdi.uitests.web.selenium.elements.apiInteract;
+
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+
+import static org.testng.Assert.*;
+
+public class ElementsCacheTests {
+    private ElementsCache cache;
+    private final WebElement element = (WebElement) Proxy.newProxyInstance(WebElement.class.getClassLoader(),
+            new Class<?>[]{WebElement.class}, (proxy, method, args) -> null);
+
+    @BeforeMethod
+    public void setUp() {
+        cache = new ElementsCache();
+        cache.enabled = true;
+    }
+
+    @Test
+    public void cachedElementIsReturned() {
+        cache.put("chrome", "button", element);
+        assertSame(cache.get("chrome", "button"), element);
+        assertNull(cache.get("chrome", "link"));
+        assertNull(cache.get("firefox", "button"));
+        assertEquals(cache.hits(), 1);
+        assertEquals(cache.misses(), 2);
+    }
+
+    @Test
+    public void disabledCacheKeepsNothing() {
+        cache.enabled = false;
+        cache.put("chrome", "button", element);
+        cache.enabled = true;
+        assertNull(cache.get("chrome", "button"));
+    }
+
+    @Test
+    public void invalidateDropsOnlyDriverElements() {
+        cache.put("chrome", "button", element);
+        cache.put("firefox", "button", element);
+        cache.invalidate("chrome");
+        assertNull(cache.get("chrome", "button"));
+        assertSame(cache.get("firefox", "button"), element);
+        cache.invalidateAll();
+        assertNull(cache.get("firefox", "button"));
+    }
+
+    @Test
+    public void frameSwitchInvalidatesElements() {
+        cache.put("chrome", "button", element);
+        cache.switchFrame("chrome", "");
+        assertSame(cache.get("chrome", "button"), element);
+        cache.switchFrame("chrome", "frame1");
+        assertNull(cache.get("chrome", "button"));
+        cache.put("chrome", "button", element);
+        cache.switchFrame("chrome", "frame1");
+        assertSame(cache.get("chrome", "button"), element);
+    }
+
+    @Test
+    public void pageVersionChangesAfterActionsAndInvalidation() {
+        long version = cache.pageVersion("chrome");
+        cache.put("chrome", "button", element);
+        assertEquals(cache.pageVersion("chrome"), version);
+        cache.actionDone("chrome");
+        assertNotEquals(cache.pageVersion("chrome"), version);
+        version = cache.pageVersion("chrome");
+        cache.invalidate("chrome");
+        assertNotEquals(cache.pageVersion("chrome"), version);
+        assertNull(cache.get("chrome", "button"));
+    }
+
+    @Test
+    public void resetStatistic() {
+        cache.get("chrome", "button");
+        cache.resetStatistic();
+        assertEquals(cache.hits(), 0);
+        assertEquals(cache.misses(), 0);
+    }
+}
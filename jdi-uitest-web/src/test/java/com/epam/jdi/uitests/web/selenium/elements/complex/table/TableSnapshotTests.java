@@ -0,0 +1,77 @@
+package com.epam.jdi.uitests.web.selenium.elements.complex.table;
+
+import com.epam.commons.pairs.Pair;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.epam.commons.LinqUtils.select;
+import static java.util.Arrays.asList;
+import static org.testng.Assert.*;
+
+public class TableSnapshotTests {
+    private TableSnapshot snapshot;
+
+    @BeforeMethod
+    public void setUp() {
+        snapshot = new TableSnapshot(
+                new String[]{"Name", "Type", "Name"},
+                new String[]{"first", "second", "third"},
+                new String[][]{
+                        {"Roman", "Admin", "R"},
+                        {"Vlad", "User", "V"},
+                        {"Olga", "Admin", "O"}});
+    }
+
+    @Test
+    public void headerNumbers() {
+        assertEquals(snapshot.columnNum("Type"), 2);
+        assertEquals(snapshot.columnNums("Name"), asList(1, 3));
+        assertEquals(snapshot.columnNum("Age"), 0);
+        assertEquals(snapshot.rowNum("third"), 3);
+        assertEquals(snapshot.rowNum("fourth"), 0);
+    }
+
+    @Test
+    public void values() {
+        assertEquals(snapshot.value(2, 3), "Admin");
+        assertEquals(snapshot.value("Type", "second"), "User");
+        assertNull(snapshot.value(4, 1));
+        assertNull(snapshot.value(1, 0));
+        assertEquals(snapshot.rowValue(2), asList("Vlad", "User", "V"));
+        assertEquals(snapshot.columnValue(1), asList("Roman", "Vlad", "Olga"));
+        assertEquals(snapshot.rowValue(5), new ArrayList<>());
+    }
+
+    @Test
+    public void rowsAndColumnsWithValue() {
+        assertEquals(snapshot.rowsWith(2, "Admin"), asList(1, 3));
+        assertEquals(snapshot.rowsWith(2, "Guest"), new ArrayList<>());
+        assertEquals(snapshot.columnsWith(2, "V"), asList(3));
+        List<Pair<Integer, Integer>> cells = snapshot.cellsWith("Admin");
+        assertEquals(select(cells, cell -> cell.key), asList(2, 2));
+        assertEquals(select(cells, cell -> cell.value), asList(1, 3));
+    }
+
+    @Test
+    public void rowsWithAllValues() {
+        assertEquals(snapshot.rowsWith(asList(new Pair<>("Type", "Admin"), new Pair<>("Name", "Olga"))), asList(3));
+        assertEquals(snapshot.rowsWith(asList(new Pair<>("Type", "User"), new Pair<>("Name", "Olga"))), new ArrayList<>());
+        assertEquals(snapshot.rowsWith(asList(new Pair<>("Age", "20"))), new ArrayList<>());
+        assertEquals(snapshot.rowsWith(new ArrayList<>()), asList(1, 2, 3));
+        assertEquals(snapshot.columnsWith(asList(new Pair<>("first", "Roman"))), asList(1));
+    }
+
+    @Test
+    public void missingHeadersAreNumbered() {
+        TableSnapshot table = new TableSnapshot(null, new String[]{"first"},
+                new String[][]{{"a", "b"}, {"c", "d", "e"}});
+        assertEquals(table.columnHeaders(), new String[]{"1", "2", "3"});
+        assertEquals(table.rowHeaders(), new String[]{"first", "2"});
+        assertEquals(table.rowNum("2"), 2);
+        assertEquals(table.columnsCount(), 3);
+        assertEquals(table.rowsCount(), 2);
+    }
+}